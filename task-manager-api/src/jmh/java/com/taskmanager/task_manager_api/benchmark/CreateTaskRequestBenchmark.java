@@ -0,0 +1,79 @@
+package com.taskmanager.task_manager_api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.taskmanager.task_manager_api.model.dto.CreateTaskRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request-side cost of POST /api/tasks: reading the JSON body and running Bean Validation on it
+ * The invalid case includes building the constraint violation and interpolating its message.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class CreateTaskRequestBenchmark {
+
+    private static final byte[] VALID_BODY = """
+            {"title":"Prepare the quarterly report","description":"Collect figures from every team","status":"IN_PROGRESS"}
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] BLANK_TITLE_BODY = """
+            {"title":"  ","description":"Collect figures from every team","status":"TODO"}
+            """.getBytes(StandardCharsets.UTF_8);
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private ObjectReader reader;
+    private CreateTaskRequest validRequest;
+
+    @Setup
+    public void setUp() throws IOException {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        reader = TaskFixtures.objectMapper().readerFor(CreateTaskRequest.class);
+        validRequest = reader.readValue(VALID_BODY);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public CreateTaskRequest deserialize() throws IOException {
+        return reader.readValue(VALID_BODY);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CreateTaskRequest>> validate() {
+        return validator.validate(validRequest);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CreateTaskRequest>> deserializeAndValidate() throws IOException {
+        CreateTaskRequest request = reader.readValue(VALID_BODY);
+        return validator.validate(request);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CreateTaskRequest>> deserializeAndRejectBlankTitle() throws IOException {
+        CreateTaskRequest request = reader.readValue(BLANK_TITLE_BODY);
+        return validator.validate(request);
+    }
+}
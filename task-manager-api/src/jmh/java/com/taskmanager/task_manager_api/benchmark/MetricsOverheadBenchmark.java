@@ -0,0 +1,72 @@
+package com.taskmanager.task_manager_api.benchmark;
+
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of the http.server.requests timer on the Prometheus registry, with and without the
+ * SLO buckets configured in application.yml, under concurrent recording from several request threads
+ * Recording is done against a pre-resolved timer and through a tag lookup, as the observation filter does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+public class MetricsOverheadBenchmark {
+
+    private static final Duration[] SLO = {
+            Duration.ofMillis(5), Duration.ofMillis(10), Duration.ofMillis(25), Duration.ofMillis(50),
+            Duration.ofMillis(100), Duration.ofMillis(250), Duration.ofMillis(500), Duration.ofSeconds(1),
+            Duration.ofMillis(2500)};
+
+    private static final Tags TAGS = Tags.of(
+            "method", "GET", "uri", "/api/tasks/{id}", "status", "200", "outcome", "SUCCESS", "exception", "none");
+
+    private PrometheusMeterRegistry registry;
+    private Timer plainTimer;
+    private Timer sloTimer;
+
+    @Setup
+    public void setUp() {
+        registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        plainTimer = Timer.builder("bench.plain").tags(TAGS).register(registry);
+        sloTimer = Timer.builder("bench.slo").tags(TAGS).serviceLevelObjectives(SLO).register(registry);
+    }
+
+    @Benchmark
+    public long baseline() {
+        return System.nanoTime() - System.nanoTime();
+    }
+
+    @Benchmark
+    public void recordPlain() {
+        var start = System.nanoTime();
+        plainTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    @Benchmark
+    public void recordWithSloBuckets() {
+        var start = System.nanoTime();
+        sloTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    @Benchmark
+    public void lookUpAndRecordWithSloBuckets() {
+        var start = System.nanoTime();
+        Timer.builder("bench.slo").tags(TAGS).serviceLevelObjectives(SLO).register(registry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+}
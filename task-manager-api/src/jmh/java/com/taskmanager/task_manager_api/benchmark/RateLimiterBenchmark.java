@@ -0,0 +1,53 @@
+package com.taskmanager.task_manager_api.benchmark;
+
+import com.taskmanager.task_manager_api.ratelimit.RateLimitProperties;
+import com.taskmanager.task_manager_api.ratelimit.TokenBucketRateLimiter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission cost of the per-client rate limiter for requests it lets through
+ * The limit is set high enough that every call is admitted; "hotClient" has every thread CAS the same
+ * bucket, "manyClients" spreads calls over 10,000 buckets as real traffic does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Threads(8)
+public class RateLimiterBenchmark {
+
+    private static final int CLIENTS = 10_000;
+
+    private TokenBucketRateLimiter limiter;
+    private String[] clients;
+
+    @Setup
+    public void setUp() {
+        limiter = new TokenBucketRateLimiter(
+                new RateLimitProperties(1e9, 1_000_000, 100_000, Duration.ofMinutes(10), null));
+        clients = new String[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            clients[i] = "ip:10.0." + (i / 256) + "." + (i % 256);
+        }
+    }
+
+    @Benchmark
+    public long hotClient() {
+        return limiter.tryAcquire("ip:10.0.0.1", 1);
+    }
+
+    @Benchmark
+    public long manyClients() {
+        return limiter.tryAcquire(clients[ThreadLocalRandom.current().nextInt(CLIENTS)], 1);
+    }
+}
@@ -0,0 +1,95 @@
+package com.taskmanager.task_manager_api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskmanager.task_manager_api.json.TaskJsonCache;
+import com.taskmanager.task_manager_api.json.TaskJsonCacheModule;
+import com.taskmanager.task_manager_api.model.Enum.TaskStatus;
+import com.taskmanager.task_manager_api.model.dto.TaskResponse;
+import com.taskmanager.task_manager_api.model.entity.Task;
+import com.taskmanager.task_manager_api.model.entity.UuidV7Generator;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic test data shared by the benchmarks
+ */
+public final class TaskFixtures {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 15, 9, 30, 15, 123_456_000);
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private TaskFixtures() {
+    }
+
+    public static Task task(int index) {
+        return Task.builder()
+                .id(UuidV7Generator.next())
+                .title("Task " + index + ": prepare the quarterly report")
+                .description("Collect figures from every team, reconcile them and share the draft for review #" + index)
+                .status(STATUSES[index % STATUSES.length])
+                .createdAt(CREATED_AT.plusSeconds(index))
+                .updatedAt(CREATED_AT.plusSeconds(index).plusMinutes(5))
+                .version((long) index % 7)
+                .build();
+    }
+
+    public static List<Task> tasks(int count) {
+        var tasks = new ArrayList<Task>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(task(i));
+        }
+        return tasks;
+    }
+
+    public static List<TaskResponse> responses(int count) {
+        var responses = new ArrayList<TaskResponse>(count);
+        for (int i = 0; i < count; i++) {
+            var task = task(i);
+            responses.add(new TaskResponse(task.getId(), task.getTitle(), task.getDescription(), task.getStatus(),
+                    task.getCreatedAt(), task.getUpdatedAt(), task.getVersion()));
+        }
+        return responses;
+    }
+
+    /**
+     * ObjectMapper configured like Spring Boot's auto-configured one: java.time module registered
+     * and dates written as ISO-8601 strings
+     */
+    public static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    /**
+     * ObjectMapper configured like the API's with the encoded JSON cache installed
+     */
+    public static ObjectMapper cachingObjectMapper(TaskJsonCache cache) {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .modulesToInstall(new TaskJsonCacheModule(cache))
+                .build();
+    }
+
+    /**
+     * ObjectMapper configured like the API's CBOR converter: dates written as numeric arrays
+     */
+    public static ObjectMapper cborMapper() {
+        return Jackson2ObjectMapperBuilder.cbor()
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    /**
+     * ObjectMapper configured like the API's Smile converter: dates written as numeric arrays
+     */
+    public static ObjectMapper smileMapper() {
+        return Jackson2ObjectMapperBuilder.smile()
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+}
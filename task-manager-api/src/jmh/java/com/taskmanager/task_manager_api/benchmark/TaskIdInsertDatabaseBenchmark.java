@@ -0,0 +1,101 @@
+package com.taskmanager.task_manager_api.benchmark;
+
+import com.taskmanager.task_manager_api.model.entity.UuidV7Generator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Batched insert throughput into a uuid primary key with random (v4) versus time-ordered (v7) ids
+ * Random ids land all over the B-tree, so once the index outgrows shared buffers every insert touches
+ * a cold page; v7 ids append to the right-most leaf. Runs against a scratch table so the task table
+ * is left alone. Needs the database from docker-compose (-PjmhDatabase); override the connection
+ * with -Djmh.datasource.url, .username and .password.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class TaskIdInsertDatabaseBenchmark {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL =
+            "insert into jmh_task_id_insert (id, title, created_at) values (?, ?, ?)";
+
+    public enum IdType {
+        RANDOM_V4(UUID::randomUUID),
+        TIME_ORDERED_V7(UuidV7Generator::next);
+
+        private final Supplier<UUID> generator;
+
+        IdType(Supplier<UUID> generator) {
+            this.generator = generator;
+        }
+    }
+
+    @Param({"RANDOM_V4", "TIME_ORDERED_V7"})
+    private IdType idType;
+
+    private Connection connection;
+
+    @Setup
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getProperty("jmh.datasource.url",
+                        "jdbc:postgresql://localhost:5433/task_db?reWriteBatchedInserts=true"),
+                System.getProperty("jmh.datasource.username", "postgres"),
+                System.getProperty("jmh.datasource.password", "admin"));
+        try (var statement = connection.createStatement()) {
+            statement.execute("drop table if exists jmh_task_id_insert");
+            statement.execute("""
+                    create table jmh_task_id_insert (
+                        id uuid primary key,
+                        title varchar(200) not null,
+                        created_at timestamp not null
+                    )
+                    """);
+        }
+        connection.setAutoCommit(false);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.setAutoCommit(true);
+        try (var statement = connection.createStatement()) {
+            statement.execute("drop table if exists jmh_task_id_insert");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void insertBatch() throws SQLException {
+        var now = Timestamp.valueOf(LocalDateTime.now());
+        try (var insert = connection.prepareStatement(INSERT_SQL)) {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                insert.setObject(1, idType.generator.get());
+                insert.setString(2, "Task " + i);
+                insert.setTimestamp(3, now);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+    }
+}
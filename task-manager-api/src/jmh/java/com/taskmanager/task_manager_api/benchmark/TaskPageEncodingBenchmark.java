@@ -0,0 +1,98 @@
+package com.taskmanager.task_manager_api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.task_manager_api.model.dto.TaskPageResponse;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Bytes on the wire and CPU cost of each GET /api/tasks encoding
+ * Every combination of JSON, CBOR and Smile with and without gzip, encoded as the server does and decoded
+ * as a client would. The wireBytes counter reports the size of one encoded page; gzip uses the default
+ * level, as Tomcat's compression does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class TaskPageEncodingBenchmark {
+
+    @Param({"json", "cbor", "smile"})
+    private String encoding;
+
+    @Param({"false", "true"})
+    private boolean gzip;
+
+    @Param({"20", "100", "1000"})
+    private int size;
+
+    private ObjectMapper mapper;
+    private TaskPageResponse page;
+    private byte[] encoded;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Wire {
+
+        public long wireBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            wireBytes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = switch (encoding) {
+            case "json" -> TaskFixtures.objectMapper();
+            case "cbor" -> TaskFixtures.cborMapper();
+            case "smile" -> TaskFixtures.smileMapper();
+            default -> throw new IllegalArgumentException("Unknown encoding: " + encoding);
+        };
+        page = new TaskPageResponse(TaskFixtures.responses(size), "eyJjcmVhdGVkQXQiOiIyMDI1LTAxLTE1In0");
+        encoded = encode();
+    }
+
+    @Benchmark
+    public byte[] encode(Wire wire) throws IOException {
+        var bytes = encode();
+        wire.wireBytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public TaskPageResponse decode() throws IOException {
+        if (gzip) {
+            try (var in = new GZIPInputStream(new ByteArrayInputStream(encoded))) {
+                return mapper.readValue(in, TaskPageResponse.class);
+            }
+        }
+        return mapper.readValue(encoded, TaskPageResponse.class);
+    }
+
+    private byte[] encode() throws IOException {
+        if (!gzip) {
+            return mapper.writeValueAsBytes(page);
+        }
+        var out = new ByteArrayOutputStream();
+        try (var gzipOut = new GZIPOutputStream(out)) {
+            mapper.writeValue(gzipOut, page);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,83 @@
+package com.taskmanager.task_manager_api.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskmanager.task_manager_api.json.TaskJsonCache;
+import com.taskmanager.task_manager_api.model.dto.TaskResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson cost of TaskResponse lists at page and export sizes
+ * Every item carries two LocalDateTime fields and a TaskStatus. The API writes the status by name;
+ * the toString variant measures writing the display name instead, as Lombok's toString does in log lines.
+ * The cached variant writes every item from a warm TaskJsonCache, as the API does for unchanged tasks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class TaskResponseSerializationBenchmark {
+
+    private static final TypeReference<List<TaskResponse>> TASK_LIST = new TypeReference<>() {
+    };
+
+    @Param({"1", "50", "200", "1000"})
+    private int size;
+
+    private List<TaskResponse> tasks;
+    private byte[] json;
+    private ObjectWriter writer;
+    private ObjectWriter displayNameWriter;
+    private ObjectWriter cachedWriter;
+    private ObjectReader reader;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        var objectMapper = TaskFixtures.objectMapper();
+        tasks = TaskFixtures.responses(size);
+        writer = objectMapper.writerFor(TASK_LIST);
+        displayNameWriter = writer.with(SerializationFeature.WRITE_ENUMS_USING_TO_STRING);
+        reader = objectMapper.readerFor(TASK_LIST);
+        json = writer.writeValueAsBytes(tasks);
+        cachedWriter = TaskFixtures.cachingObjectMapper(new TaskJsonCache(64L * 1024 * 1024)).writerFor(TASK_LIST);
+        cachedWriter.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return writer.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public byte[] serializeFromJsonCache() throws JsonProcessingException {
+        return cachedWriter.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public byte[] serializeStatusDisplayName() throws JsonProcessingException {
+        return displayNameWriter.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public String toStringForLogging() {
+        return tasks.toString();
+    }
+
+    @Benchmark
+    public List<TaskResponse> deserialize() throws IOException {
+        return reader.readValue(json);
+    }
+}
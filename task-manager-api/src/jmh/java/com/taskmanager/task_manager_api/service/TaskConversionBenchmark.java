@@ -0,0 +1,45 @@
+package com.taskmanager.task_manager_api.service;
+
+import com.taskmanager.task_manager_api.benchmark.TaskFixtures;
+import com.taskmanager.task_manager_api.model.dto.TaskResponse;
+import com.taskmanager.task_manager_api.model.entity.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of mapping Task entities to TaskResponse with TaskService.convertToDto, for a single task and for pages
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class TaskConversionBenchmark {
+
+    @Param({"1", "50", "200"})
+    private int size;
+
+    private List<Task> tasks;
+
+    @Setup
+    public void setUp() {
+        tasks = TaskFixtures.tasks(size);
+    }
+
+    @Benchmark
+    public List<TaskResponse> convertToDto() {
+        var responses = new ArrayList<TaskResponse>(tasks.size());
+        for (var task : tasks) {
+            responses.add(TaskService.convertToDto(task));
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,98 @@
+package com.taskmanager.task_manager_api.service;
+
+import com.taskmanager.task_manager_api.TaskManagerApiApplication;
+import com.taskmanager.task_manager_api.benchmark.TaskFixtures;
+import com.taskmanager.task_manager_api.model.Enum.TaskSort;
+import com.taskmanager.task_manager_api.model.dto.TaskResponse;
+import com.taskmanager.task_manager_api.model.entity.Task;
+import com.taskmanager.task_manager_api.repository.TaskPageQuery;
+import com.taskmanager.task_manager_api.repository.TaskRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read paths against PostgreSQL: loading managed Task entities and converting them, versus projecting
+ * rows straight into TaskResponse as the service does. Needs the database from docker-compose (-PjmhDatabase).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class TaskReadDatabaseBenchmark {
+
+    private static final int SEEDED_TASKS = 1_000;
+    private static final int PAGE_SIZE = TaskService.DEFAULT_PAGE_SIZE;
+
+    private ConfigurableApplicationContext context;
+    private TaskRepository taskRepository;
+    private TransactionTemplate readOnly;
+    private List<UUID> ids;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(TaskManagerApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--logging.level.root=WARN");
+        taskRepository = context.getBean(TaskRepository.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+
+        // Fixture ids are cleared so the tasks are inserted with generated ids rather than merged
+        var seeded = TaskFixtures.tasks(SEEDED_TASKS);
+        seeded.forEach(task -> task.setId(null));
+        ids = taskRepository.saveAll(seeded).stream().map(Task::getId).toList();
+    }
+
+    @TearDown
+    public void tearDown() {
+        taskRepository.deleteAllByIdInBatch(ids);
+        context.close();
+    }
+
+    @Benchmark
+    public TaskResponse getEntityAndConvert() {
+        var id = randomId();
+        return readOnly.execute(status -> taskRepository.findById(id).map(TaskService::convertToDto).orElseThrow());
+    }
+
+    @Benchmark
+    public TaskResponse getProjection() {
+        var id = randomId();
+        return readOnly.execute(status -> taskRepository.findResponseById(id).orElseThrow());
+    }
+
+    @Benchmark
+    public List<TaskResponse> pageEntitiesAndConvert() {
+        var page = PageRequest.of(0, PAGE_SIZE, Sort.by("createdAt", "id"));
+        return readOnly.execute(status -> taskRepository.findAll(page).stream()
+                .map(TaskService::convertToDto)
+                .toList());
+    }
+
+    @Benchmark
+    public List<TaskResponse> pageProjection() {
+        var query = new TaskPageQuery(null, null, TaskSort.CREATED_AT, null, PAGE_SIZE);
+        return readOnly.execute(status -> taskRepository.findPage(query));
+    }
+
+    private UUID randomId() {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+}
@@ -0,0 +1,63 @@
+package com.taskmanager.task_manager_api.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Load test settings, read from -Dloadtest.* system properties (passed by ./gradlew loadTest -Ploadtest.*)
+ *
+ * @param rate           requests started per second, regardless of how fast earlier ones complete
+ * @param warmup         time run at full rate before measuring
+ * @param duration       measured time
+ * @param mix            relative weight of each operation
+ * @param seedTasks      tasks created before the run for reads and updates to target
+ * @param p99Tolerance   allowed p99 growth over the baseline, as a fraction
+ * @param p99SlackMillis absolute p99 growth always allowed, so sub-millisecond noise cannot fail the build
+ */
+record LoadTestConfig(int rate, Duration warmup, Duration duration, Map<TaskOperation, Integer> mix, int seedTasks,
+                      boolean virtualThreads, String datasourceUrl, Path baseline, Path report,
+                      boolean updateBaseline, double p99Tolerance, double p99SlackMillis) {
+
+    private static final String DEFAULT_MIX = "create=10,list=30,get=35,update=10,update_status=10,delete=5";
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Integer.getInteger("loadtest.rate", 200),
+                Duration.parse(System.getProperty("loadtest.warmup", "PT15S")),
+                Duration.parse(System.getProperty("loadtest.duration", "PT60S")),
+                parseMix(System.getProperty("loadtest.mix", DEFAULT_MIX)),
+                Integer.getInteger("loadtest.seedtasks", 500),
+                Boolean.parseBoolean(System.getProperty("loadtest.virtualthreads", "true")),
+                System.getProperty("loadtest.datasource.url"),
+                Path.of(System.getProperty("loadtest.baseline", "loadtest/baseline.json")),
+                Path.of(System.getProperty("loadtest.report", "build/reports/loadtest/report.json")),
+                Boolean.parseBoolean(System.getProperty("loadtest.updatebaseline", "false")),
+                Double.parseDouble(System.getProperty("loadtest.p99tolerance", "0.20")),
+                Double.parseDouble(System.getProperty("loadtest.p99slackmillis", "2")));
+    }
+
+    /**
+     * "create=10,list=30,..." into operation weights; operations left out get no traffic
+     */
+    static Map<TaskOperation, Integer> parseMix(String value) {
+        var mix = new EnumMap<TaskOperation, Integer>(TaskOperation.class);
+        for (var entry : value.split(",")) {
+            var parts = entry.split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid mix entry: " + entry);
+            }
+            var weight = Integer.parseInt(parts[1].strip());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Mix weight cannot be negative: " + entry);
+            }
+            mix.put(TaskOperation.valueOf(parts[0].strip().toUpperCase(Locale.ROOT)), weight);
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("Mix must give at least one operation a positive weight");
+        }
+        return mix;
+    }
+}
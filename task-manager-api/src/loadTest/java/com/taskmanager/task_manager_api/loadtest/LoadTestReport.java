@@ -0,0 +1,68 @@
+package com.taskmanager.task_manager_api.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of one load test run; also the format of the checked-in baseline
+ *
+ * @param latencyMs latency percentiles per operation plus an "ALL" entry, measured from each request's
+ *                  scheduled start so queueing inside the client is counted (no coordinated omission)
+ */
+record LoadTestReport(int rate, long durationSeconds, boolean virtualThreads, long requests, long errors,
+                      double throughput, Map<String, Percentiles> latencyMs) {
+
+    static final String ALL = "ALL";
+
+    record Percentiles(long count, double p50, double p99, double p999, double max) {
+
+        static Percentiles of(Histogram histogram) {
+            return new Percentiles(
+                    histogram.getTotalCount(),
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+        }
+
+        private static double millis(long nanos) {
+            return Math.round(nanos / 1_000.0) / 1_000.0;
+        }
+    }
+
+    /**
+     * Reasons this run counts as a regression against the baseline; empty when it passes
+     * Compares p99 of every operation present in both runs, and fails runs that fell behind the
+     * arrival rate or returned errors, since their latencies are not comparable
+     */
+    List<String> regressionsAgainst(LoadTestReport baseline, double p99Tolerance, double p99SlackMillis) {
+        var regressions = new ArrayList<String>();
+        if (throughput < rate * 0.95) {
+            regressions.add("throughput %.1f req/s fell behind the %d req/s arrival rate".formatted(throughput, rate));
+        }
+        if (errors > requests / 100) {
+            regressions.add("%d of %d requests failed".formatted(errors, requests));
+        }
+        if (baseline.rate() != rate || baseline.virtualThreads() != virtualThreads) {
+            regressions.add("baseline was recorded at %d req/s with virtualThreads=%s; rerun with the same settings"
+                    .formatted(baseline.rate(), baseline.virtualThreads()));
+            return regressions;
+        }
+
+        latencyMs.forEach((operation, current) -> {
+            var expected = baseline.latencyMs().get(operation);
+            if (expected == null) {
+                return;
+            }
+            var limit = Math.max(expected.p99() * (1 + p99Tolerance), expected.p99() + p99SlackMillis);
+            if (current.p99() > limit) {
+                regressions.add("%s p99 %.3f ms exceeds %.3f ms (baseline %.3f ms)"
+                        .formatted(operation, current.p99(), limit, expected.p99()));
+            }
+        });
+        return regressions;
+    }
+}
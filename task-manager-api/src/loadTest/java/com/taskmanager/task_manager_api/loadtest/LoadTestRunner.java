@@ -0,0 +1,317 @@
+package com.taskmanager.task_manager_api.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskmanager.task_manager_api.TaskManagerApiApplication;
+import com.taskmanager.task_manager_api.model.Enum.TaskStatus;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load test for the task API: ./gradlew loadTest
+ * Starts the application on a random port against the configured PostgreSQL, seeds tasks, then starts
+ * requests at a fixed arrival rate whether or not earlier ones have finished, so a slow server shows up
+ * as latency instead of as a lower request rate. Latency is measured from each request's scheduled start
+ * into HDR histograms. The run exits non-zero, failing the Gradle task, when it regresses against the
+ * checked-in baseline.
+ */
+public final class LoadTestRunner {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    // Bounds client memory when the server stalls; requests beyond it count as errors
+    private static final int MAX_IN_FLIGHT = 10_000;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private final LoadTestConfig config;
+    private final ObjectMapper objectMapper;
+    private final HttpClient client;
+    private final URI tasksUri;
+    private final TaskOperation[] schedule;
+
+    private final List<UUID> seeded = new ArrayList<>();
+    // Tasks nobody else targets, consumed by DELETE
+    private final Queue<UUID> deletable = new ConcurrentLinkedQueue<>();
+    private final Map<TaskOperation, Histogram> histograms = new EnumMap<>(TaskOperation.class);
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder completedInWindow = new LongAdder();
+    private final Semaphore inFlight = new Semaphore(MAX_IN_FLIGHT);
+
+    LoadTestRunner(LoadTestConfig config, ObjectMapper objectMapper, HttpClient client, int port) {
+        this.config = config;
+        this.objectMapper = objectMapper;
+        this.client = client;
+        this.tasksUri = URI.create("http://localhost:" + port + "/api/tasks");
+        this.schedule = weightedSchedule(config.mix());
+        for (var operation : TaskOperation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        var config = LoadTestConfig.fromSystemProperties();
+        var objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+        int exitCode;
+        try (var context = startApplication(config);
+             var clientExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            var client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(clientExecutor)
+                    .build();
+
+            var report = new LoadTestRunner(config, objectMapper, client, port).run();
+            exitCode = evaluate(config, report, objectMapper);
+        }
+        System.exit(exitCode);
+    }
+
+    private static ConfigurableApplicationContext startApplication(LoadTestConfig config) {
+        var args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + config.virtualThreads(),
+                "--logging.level.root=WARN",
+                // One client at hundreds of req/s; the per-client limiter would turn the run into a 429 test
+                "--task.rate-limit.enabled=false"));
+        if (config.datasourceUrl() != null) {
+            args.add("--spring.datasource.url=" + config.datasourceUrl());
+        }
+        return new SpringApplicationBuilder(TaskManagerApiApplication.class).run(args.toArray(String[]::new));
+    }
+
+    LoadTestReport run() throws IOException, InterruptedException {
+        seed();
+        System.out.printf("Driving %d req/s for %s warmup + %s measured, virtualThreads=%s%n",
+                config.rate(), config.warmup(), config.duration(), config.virtualThreads());
+
+        var start = System.nanoTime();
+        var measureFrom = start + config.warmup().toNanos();
+        var end = measureFrom + config.duration().toNanos();
+        var nanosPerRequest = 1e9 / config.rate();
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                var scheduled = start + Math.round(i * nanosPerRequest);
+                if (scheduled >= end) {
+                    break;
+                }
+                parkUntil(scheduled);
+                submit(executor, schedule[ThreadLocalRandom.current().nextInt(schedule.length)],
+                        scheduled, scheduled >= measureFrom, end);
+            }
+        } // close() waits for stragglers so their latency is recorded
+
+        var latency = new LinkedHashMap<String, LoadTestReport.Percentiles>();
+        var all = new Histogram(HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        histograms.forEach((operation, histogram) -> {
+            if (histogram.getTotalCount() > 0) {
+                latency.put(operation.name(), LoadTestReport.Percentiles.of(histogram));
+                all.add(histogram);
+            }
+        });
+        latency.put(LoadTestReport.ALL, LoadTestReport.Percentiles.of(all));
+
+        var seconds = config.duration().toSeconds();
+        return new LoadTestReport(config.rate(), seconds, config.virtualThreads(), requests.sum(), errors.sum(),
+                completedInWindow.sum() / (double) seconds, latency);
+    }
+
+    private void submit(ExecutorService executor, TaskOperation operation, long scheduled, boolean measured,
+                        long end) {
+        if (measured) {
+            requests.increment();
+        }
+        if (!inFlight.tryAcquire()) {
+            if (measured) {
+                errors.increment();
+            }
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                var ok = execute(operation);
+                var finished = System.nanoTime();
+                if (measured) {
+                    histograms.get(operation).recordValue(Math.min(finished - scheduled, HIGHEST_TRACKABLE_NANOS));
+                    if (!ok) {
+                        errors.increment();
+                    }
+                    if (finished <= end) {
+                        completedInWindow.increment();
+                    }
+                }
+            } finally {
+                inFlight.release();
+            }
+        });
+    }
+
+    private boolean execute(TaskOperation operation) {
+        try {
+            return switch (operation) {
+                case CREATE -> create(deletable);
+                case LIST -> send(HttpRequest.newBuilder(URI.create(tasksUri + "?limit=50")).GET(), 200);
+                case GET -> send(HttpRequest.newBuilder(taskUri(randomSeeded(), "")).GET(), 200);
+                case UPDATE -> send(HttpRequest.newBuilder(taskUri(randomSeeded(), ""))
+                        .PUT(json("{\"title\":\"loadtest updated %d\",\"description\":\"updated by the load test\"}"
+                                .formatted(ThreadLocalRandom.current().nextInt(1_000_000)))), 200);
+                case UPDATE_STATUS -> send(HttpRequest.newBuilder(taskUri(randomSeeded(), "/status"))
+                        .method("PATCH", json("{\"status\":\"%s\"}".formatted(
+                                STATUSES[ThreadLocalRandom.current().nextInt(STATUSES.length)].name()))), 200);
+                case DELETE -> delete();
+            };
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Falls back to a create when the pool of deletable tasks has run dry
+     */
+    private boolean delete() throws IOException, InterruptedException {
+        var id = deletable.poll();
+        if (id == null) {
+            return create(deletable);
+        }
+        return send(HttpRequest.newBuilder(taskUri(id, "")).DELETE(), 204);
+    }
+
+    private boolean create(Queue<UUID> createdIds) throws IOException, InterruptedException {
+        var request = HttpRequest.newBuilder(tasksUri)
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"title\":\"loadtest %d\",\"description\":\"created by the load test\",\"status\":\"TODO\"}"
+                                .formatted(ThreadLocalRandom.current().nextInt(1_000_000))))
+                .build();
+        var response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 201) {
+            return false;
+        }
+        createdIds.add(UUID.fromString(objectMapper.readTree(response.body()).get("id").asText()));
+        return true;
+    }
+
+    private boolean send(HttpRequest.Builder builder, int expectedStatus) throws IOException, InterruptedException {
+        var response = client.send(builder.timeout(REQUEST_TIMEOUT).build(), HttpResponse.BodyHandlers.discarding());
+        return response.statusCode() == expectedStatus;
+    }
+
+    /**
+     * Tasks for GET, PUT and PATCH to target, plus an initial pool for DELETE
+     */
+    private void seed() throws IOException, InterruptedException {
+        var created = new ConcurrentLinkedQueue<UUID>();
+        for (int i = 0; i < config.seedTasks() * 2; i++) {
+            if (!create(created)) {
+                throw new IllegalStateException("Could not seed tasks; is the database reachable?");
+            }
+        }
+        for (int i = 0; i < config.seedTasks(); i++) {
+            seeded.add(created.poll());
+        }
+        deletable.addAll(created);
+    }
+
+    private UUID randomSeeded() {
+        return seeded.get(ThreadLocalRandom.current().nextInt(seeded.size()));
+    }
+
+    private URI taskUri(UUID id, String suffix) {
+        return URI.create(tasksUri + "/" + id + suffix);
+    }
+
+    private static HttpRequest.BodyPublisher json(String body) {
+        return HttpRequest.BodyPublishers.ofString(body);
+    }
+
+    private static void parkUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    /**
+     * One slot per unit of weight, so a uniform pick over the array follows the mix
+     */
+    private static TaskOperation[] weightedSchedule(Map<TaskOperation, Integer> mix) {
+        var slots = new ArrayList<TaskOperation>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                slots.add(operation);
+            }
+        });
+        return slots.toArray(TaskOperation[]::new);
+    }
+
+    /**
+     * Write the report, print it and compare it with the baseline; returns the process exit code
+     */
+    private static int evaluate(LoadTestConfig config, LoadTestReport report, ObjectMapper objectMapper)
+            throws IOException {
+        Files.createDirectories(config.report().toAbsolutePath().getParent());
+        objectMapper.writeValue(config.report().toFile(), report);
+
+        System.out.printf("%d requests, %d errors, %.1f req/s%n", report.requests(), report.errors(),
+                report.throughput());
+        System.out.printf("%-14s %10s %10s %10s %10s %10s%n", "operation", "count", "p50 ms", "p99 ms", "p999 ms",
+                "max ms");
+        report.latencyMs().forEach((operation, p) -> System.out.printf("%-14s %10d %10.3f %10.3f %10.3f %10.3f%n",
+                operation, p.count(), p.p50(), p.p99(), p.p999(), p.max()));
+        System.out.println("Report written to " + config.report());
+
+        if (config.updateBaseline()) {
+            Files.createDirectories(config.baseline().toAbsolutePath().getParent());
+            objectMapper.writeValue(config.baseline().toFile(), report);
+            System.out.println("Baseline updated at " + config.baseline());
+            return 0;
+        }
+        if (!Files.exists(config.baseline())) {
+            System.out.println("No baseline at " + config.baseline() + "; record one with -Ploadtest.updatebaseline=true");
+            return 1;
+        }
+
+        var baseline = objectMapper.readValue(config.baseline().toFile(), LoadTestReport.class);
+        var regressions = report.regressionsAgainst(baseline, config.p99Tolerance(), config.p99SlackMillis());
+        if (regressions.isEmpty()) {
+            System.out.println("No p99 regression against " + config.baseline());
+            return 0;
+        }
+        regressions.forEach(regression -> System.out.println("REGRESSION: " + regression));
+        return 1;
+    }
+}
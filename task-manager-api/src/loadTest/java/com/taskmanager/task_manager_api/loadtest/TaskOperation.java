@@ -0,0 +1,13 @@
+package com.taskmanager.task_manager_api.loadtest;
+
+/**
+ * The TaskController endpoints driven by the load test
+ */
+enum TaskOperation {
+    CREATE,          // POST /api/tasks
+    LIST,            // GET /api/tasks
+    GET,             // GET /api/tasks/{id}
+    UPDATE,          // PUT /api/tasks/{id}
+    UPDATE_STATUS,   // PATCH /api/tasks/{id}/status
+    DELETE           // DELETE /api/tasks/{id}
+}
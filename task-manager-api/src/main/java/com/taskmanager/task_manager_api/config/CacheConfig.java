@@ -0,0 +1,21 @@
+package com.taskmanager.task_manager_api.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Caching configuration
+ * Cache sizing, TTL and stats recording come from spring.cache.caffeine.spec;
+ * hit/miss/eviction metrics are published on actuator under cache.*
+ */
+@Configuration
+// Run the cache advice outside the transaction so entries only change after a successful commit
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    /**
+     * Single task responses keyed by task id
+     */
+    public static final String TASKS = "tasks";
+}
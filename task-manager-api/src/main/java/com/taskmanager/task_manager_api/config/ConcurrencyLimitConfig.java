@@ -0,0 +1,65 @@
+package com.taskmanager.task_manager_api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.task_manager_api.loadshed.AdaptiveConcurrencyLimiter;
+import com.taskmanager.task_manager_api.loadshed.ConcurrencyLimitEndpoint;
+import com.taskmanager.task_manager_api.loadshed.ConcurrencyLimitFilter;
+import com.taskmanager.task_manager_api.loadshed.ConcurrencyLimitProperties;
+import com.taskmanager.task_manager_api.loadshed.RequestPriority;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Adaptive concurrency limiting and load shedding for /api/tasks, configured under task.concurrency-limit
+ * Turned off with task.concurrency-limit.enabled=false
+ */
+@Configuration
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+@ConditionalOnProperty(name = "task.concurrency-limit.enabled", matchIfMissing = true)
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties) {
+        return new AdaptiveConcurrencyLimiter(properties);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter,
+                                                                                 ObjectMapper objectMapper) {
+        var registration = new FilterRegistrationBean<>(new ConcurrencyLimitFilter(limiter, objectMapper));
+        // After the per-client rate limit, so one noisy client is turned away before it takes a slot,
+        // and after idempotency replays, which do no work worth limiting
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+
+    @Bean
+    public ConcurrencyLimitEndpoint concurrencyLimitEndpoint(AdaptiveConcurrencyLimiter limiter) {
+        return new ConcurrencyLimitEndpoint(limiter);
+    }
+
+    @Bean
+    public MeterBinder concurrencyLimitMetrics(AdaptiveConcurrencyLimiter limiter) {
+        return registry -> {
+            Gauge.builder("task.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::limit)
+                    .description("Current adaptive concurrency limit")
+                    .register(registry);
+            Gauge.builder("task.concurrency.in.flight", limiter, AdaptiveConcurrencyLimiter::inFlight)
+                    .description("Limited requests currently in flight")
+                    .register(registry);
+            for (var priority : RequestPriority.values()) {
+                FunctionCounter.builder("task.concurrency.rejected", limiter, l -> l.rejected(priority))
+                        .description("Requests shed with 503 by the concurrency limiter")
+                        .tag("priority", priority.name())
+                        .register(registry);
+            }
+        };
+    }
+}
@@ -0,0 +1,54 @@
+package com.taskmanager.task_manager_api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.task_manager_api.idempotency.IdempotencyFilter;
+import com.taskmanager.task_manager_api.idempotency.IdempotencyProperties;
+import com.taskmanager.task_manager_api.idempotency.IdempotencyStore;
+import com.taskmanager.task_manager_api.idempotency.InMemoryIdempotencyStore;
+import com.taskmanager.task_manager_api.idempotency.JdbcIdempotencyStore;
+import com.taskmanager.task_manager_api.ratelimit.ApiClientProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.simple.JdbcClient;
+
+/**
+ * Idempotency-Key handling for task writes, configured under task.idempotency
+ * task.idempotency.store picks the in-memory store (default) or the JDBC one shared between nodes.
+ * Turned off with task.idempotency.enabled=false
+ */
+@Configuration
+@EnableConfigurationProperties({IdempotencyProperties.class, ApiClientProperties.class})
+@ConditionalOnProperty(name = "task.idempotency.enabled", matchIfMissing = true)
+public class IdempotencyConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "task.idempotency.store", havingValue = "memory", matchIfMissing = true)
+    public IdempotencyStore inMemoryIdempotencyStore(IdempotencyProperties properties) {
+        return new InMemoryIdempotencyStore(properties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "task.idempotency.store", havingValue = "jdbc")
+    public IdempotencyStore jdbcIdempotencyStore(JdbcClient jdbcClient, IdempotencyProperties properties) {
+        return new JdbcIdempotencyStore(jdbcClient, properties);
+    }
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(IdempotencyStore store,
+                                                                       IdempotencyProperties properties,
+                                                                       ApiClientProperties apiClients,
+                                                                       ObjectMapper objectMapper,
+                                                                       MeterRegistry meterRegistry) {
+        var registration = new FilterRegistrationBean<>(
+                new IdempotencyFilter(store, properties, apiClients, objectMapper, meterRegistry));
+        // After the rate limit so retries still pay for tokens, but ahead of the concurrency limit so
+        // replays and coalesced duplicates never take a slot
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 4);
+        return registration;
+    }
+}
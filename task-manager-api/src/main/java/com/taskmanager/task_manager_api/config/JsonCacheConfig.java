@@ -0,0 +1,29 @@
+package com.taskmanager.task_manager_api.config;
+
+import com.taskmanager.task_manager_api.json.TaskJsonCache;
+import com.taskmanager.task_manager_api.json.TaskJsonCacheModule;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Cache of encoded task JSON, bounded by task.json-cache.max-size
+ * The module is picked up by Boot's ObjectMapper, so JSON responses and the event stream write cached bytes
+ * for tasks they have written before; the export bypasses it. Turned off with task.json-cache.enabled=false
+ */
+@Configuration
+@ConditionalOnProperty(name = "task.json-cache.enabled", matchIfMissing = true)
+public class JsonCacheConfig {
+
+    @Bean
+    public TaskJsonCache taskJsonCache(@Value("${task.json-cache.max-size:64MB}") DataSize maxSize) {
+        return new TaskJsonCache(maxSize.toBytes());
+    }
+
+    @Bean
+    public TaskJsonCacheModule taskJsonCacheModule(TaskJsonCache taskJsonCache) {
+        return new TaskJsonCacheModule(taskJsonCache);
+    }
+}
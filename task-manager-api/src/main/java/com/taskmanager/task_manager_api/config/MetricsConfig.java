@@ -0,0 +1,35 @@
+package com.taskmanager.task_manager_api.config;
+
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Metrics configuration
+ * Registry, JVM, Hikari, Hibernate and HTTP server meters are auto-configured by actuator and exposed at
+ * /actuator/prometheus; SLO buckets are set under management.metrics.distribution.slo.
+ * The filters here keep tag cardinality bounded.
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final String HTTP_SERVER_REQUESTS = "http.server.requests";
+
+    // Task routes plus actuator and error paths; anything beyond this is a bug in uri tagging
+    private static final int MAX_URI_TAGS = 50;
+
+    /**
+     * The event stream stays open for minutes, so its duration says nothing about latency and would
+     * land in the +Inf bucket of every SLO histogram
+     */
+    @Bean
+    public MeterFilter ignoreEventStreamRequests() {
+        return MeterFilter.deny(id -> HTTP_SERVER_REQUESTS.equals(id.getName())
+                && "/api/tasks/events".equals(id.getTag("uri")));
+    }
+
+    @Bean
+    public MeterFilter limitRequestUriTags() {
+        return MeterFilter.maximumAllowableTags(HTTP_SERVER_REQUESTS, "uri", MAX_URI_TAGS, MeterFilter.deny());
+    }
+}
@@ -0,0 +1,54 @@
+package com.taskmanager.task_manager_api.config;
+
+import com.taskmanager.task_manager_api.jdbc.QueryCountFilter;
+import com.taskmanager.task_manager_api.jdbc.QueryCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Per-request SQL statement counting
+ * The DataSource is wrapped in a datasource-proxy that feeds QueryCounter; QueryCountFilter scopes the
+ * counts to each request and publishes them. Set QUERY_COUNT_HEADER_ENABLED=true to also get the counts
+ * back as X-Sql-Statements / X-Sql-Round-Trips headers.
+ */
+@Configuration
+public class QueryCountConfig {
+
+    /**
+     * Static so the DataSource is wrapped before anything else is wired to it
+     */
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new QueryCounter())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryCountFilter> queryCountFilter(
+            MeterRegistry meterRegistry,
+            @Value("${task.query-count.header-enabled:${QUERY_COUNT_HEADER_ENABLED:false}}") boolean headerEnabled) {
+        var registration = new FilterRegistrationBean<>(new QueryCountFilter(meterRegistry, headerEnabled));
+        // Right after Boot's CharacterEncodingFilter (HIGHEST_PRECEDENCE) and ServerHttpObservationFilter (+ 1),
+        // neither of which touches the database, and ahead of every filter of ours so their statements count too
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+}
@@ -0,0 +1,43 @@
+package com.taskmanager.task_manager_api.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.task_manager_api.ratelimit.ApiClientProperties;
+import com.taskmanager.task_manager_api.ratelimit.RateLimitFilter;
+import com.taskmanager.task_manager_api.ratelimit.RateLimitProperties;
+import com.taskmanager.task_manager_api.ratelimit.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Per-client rate limiting for /api/tasks, configured under task.rate-limit
+ * Turned off with task.rate-limit.enabled=false
+ */
+@Configuration
+@EnableConfigurationProperties({RateLimitProperties.class, ApiClientProperties.class})
+@ConditionalOnProperty(name = "task.rate-limit.enabled", matchIfMissing = true)
+public class RateLimitConfig {
+
+    @Bean
+    public TokenBucketRateLimiter tokenBucketRateLimiter(RateLimitProperties properties) {
+        return new TokenBucketRateLimiter(properties);
+    }
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(TokenBucketRateLimiter limiter,
+                                                                   RateLimitProperties properties,
+                                                                   ApiClientProperties clients,
+                                                                   ObjectMapper objectMapper,
+                                                                   MeterRegistry meterRegistry) {
+        var registration = new FilterRegistrationBean<>(
+                new RateLimitFilter(limiter, properties, clients, objectMapper, meterRegistry));
+        // After Boot's ServerHttpObservationFilter (HIGHEST_PRECEDENCE + 1) so 429s are recorded in
+        // http.server.requests, and ahead of any filter that could reach the database
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 3);
+        return registration;
+    }
+}
@@ -0,0 +1,13 @@
+package com.taskmanager.task_manager_api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduling configuration
+ * Background jobs run on the Boot-managed scheduler, which uses virtual threads when they are enabled
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,14 +1,28 @@
 package com.taskmanager.task_manager_api.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.task_manager_api.event.TaskChangeTracker;
+import com.taskmanager.task_manager_api.event.TaskEventBroadcaster;
+import com.taskmanager.task_manager_api.json.CachedTaskResponseSerializer;
 import com.taskmanager.task_manager_api.model.dto.*;
 import com.taskmanager.task_manager_api.service.TaskService;
+import com.taskmanager.task_manager_api.service.TaskStatsService;
+import com.taskmanager.task_manager_api.service.TaskSyncService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.UUID;
 
@@ -24,6 +38,11 @@ import java.util.UUID;
 public class TaskController {
 
     private final TaskService taskService;
+    private final ObjectMapper objectMapper;
+    private final TaskChangeTracker taskChangeTracker;
+    private final TaskEventBroadcaster taskEventBroadcaster;
+    private final TaskStatsService taskStatsService;
+    private final TaskSyncService taskSyncService;
 
     /**
      * Create a new task
@@ -37,20 +56,116 @@ public class TaskController {
 
         var taskResponse = taskService.createTask(request);
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(taskResponse);
+        return ResponseEntity.status(HttpStatus.CREATED).eTag(TaskETags.of(taskResponse)).body(taskResponse);
     }
 
     /**
-     * Fetch all tasks
-     * GET /api/tasks
+     * Create many tasks at once
+     * POST /api/tasks/bulk
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkCreateTaskResponse> createTasks(
+            @RequestBody List<CreateTaskRequest> requests) {
+
+        log.info("Bulk creating {} tasks", requests.size());
+
+        var response = taskService.createTasks(requests);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Fetch a filtered, sorted page of tasks
+     * GET /api/tasks?status={status}&q={titlePrefix}&sort={createdAt|title|status}&cursor={next}&limit={n}
      */
     @GetMapping
-    public ResponseEntity<List<TaskResponse>> getAllTasks() {
-        log.info("Fetching all tasks");
+    public ResponseEntity<TaskPageResponse> getTasks(@Valid TaskListRequest request, WebRequest webRequest) {
+        // Read the tag before querying so it is never newer than the data it describes
+        var etag = taskChangeTracker.currentTag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        log.info("Fetching tasks page: {}", request);
+
+        var page = taskService.getTasks(request);
+
+        return ResponseEntity.ok().eTag(etag).varyBy(HttpHeaders.ACCEPT).body(page);
+    }
+
+    /**
+     * Full-text search over task titles and descriptions, best match first
+     * GET /api/tasks/search?q={query}&cursor={next}&limit={n}
+     */
+    @GetMapping("/search")
+    public ResponseEntity<TaskPageResponse> searchTasks(@Valid TaskSearchRequest request, WebRequest webRequest) {
+        var etag = taskChangeTracker.currentTag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        log.info("Searching tasks: {}", request);
+
+        var page = taskService.searchTasks(request);
+
+        return ResponseEntity.ok().eTag(etag).varyBy(HttpHeaders.ACCEPT).body(page);
+    }
+
+    /**
+     * Task counts per status, served from in-memory counters
+     * GET /api/tasks/stats
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<TaskStatsResponse> getTaskStats() {
+        return ResponseEntity.ok(taskStatsService.getStats());
+    }
+
+    /**
+     * Tasks changed and deleted since the client's last sync token; all tasks when no token is given
+     * GET /api/tasks/changes?since={next}&limit={n}
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<TaskChangesResponse> getTaskChanges(TaskChangesRequest request) {
+        log.info("Fetching task changes: {}", request);
+
+        return ResponseEntity.ok(taskSyncService.getChanges(request));
+    }
+
+    /**
+     * Stream committed task changes as Server-Sent Events
+     * GET /api/tasks/events
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTaskEvents() {
+        log.info("Opening task event stream");
 
-        var tasks = taskService.getAllTasks();
+        return taskEventBroadcaster.subscribe();
+    }
 
-        return ResponseEntity.ok(tasks);
+    /**
+     * Export every task as newline-delimited JSON
+     * GET /api/tasks/export
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void exportTasks(HttpServletResponse response) throws IOException {
+        log.info("Exporting all tasks");
+
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        var out = response.getOutputStream();
+        // A full export is a single pass over cold rows; keep it out of the encoded JSON cache
+        var writer = objectMapper.writerFor(TaskResponse.class)
+                .withAttribute(CachedTaskResponseSerializer.BYPASS_CACHE, Boolean.TRUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        taskService.exportTasks(task -> {
+            try {
+                writer.writeValue(out, task);
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        out.flush();
     }
 
     /**
@@ -58,12 +173,16 @@ public class TaskController {
      * GET /api/tasks/{id}
      */
     @GetMapping("/{id}")
-    public ResponseEntity<TaskResponse> getTaskById(@PathVariable UUID id) {
+    public ResponseEntity<TaskResponse> getTaskById(@PathVariable UUID id, WebRequest webRequest) {
         log.info("Fetching task with ID: {}", id);
 
         var task = taskService.getTaskById(id);
+        var etag = TaskETags.of(task);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
 
-        return ResponseEntity.ok(task);
+        return ResponseEntity.ok().eTag(etag).varyBy(HttpHeaders.ACCEPT).body(task);
     }
 
     /**
@@ -73,12 +192,13 @@ public class TaskController {
     @PutMapping("/{id}")
     public ResponseEntity<TaskResponse> updateTask(
             @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdateTaskRequest request) {
 
         log.info("Updating task with ID: {} Request: {}", id, request.toString());
-        var updatedTask = taskService.updateTask(id, request);
+        var updatedTask = taskService.updateTask(id, request, TaskETags.expectedVersion(ifMatch));
 
-        return ResponseEntity.ok(updatedTask);
+        return ResponseEntity.ok().eTag(TaskETags.of(updatedTask)).body(updatedTask);
     }
 
     /**
@@ -88,13 +208,29 @@ public class TaskController {
     @PatchMapping("/{id}/status")
     public ResponseEntity<TaskResponse> updateTaskStatus(
             @PathVariable UUID id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody UpdateTaskStatusRequest request) {
 
         log.info("Updating status for task ID: {} to {}", id, request.getStatus());
 
-        var updatedTask = taskService.updateTaskStatus(id, request);
+        var updatedTask = taskService.updateTaskStatus(id, request, TaskETags.expectedVersion(ifMatch));
+
+        return ResponseEntity.ok().eTag(TaskETags.of(updatedTask)).body(updatedTask);
+    }
+
+    /**
+     * Change the status of many tasks at once
+     * PATCH /api/tasks/status
+     */
+    @PatchMapping("/status")
+    public ResponseEntity<BulkUpdateTaskStatusResponse> updateTaskStatuses(
+            @Valid @RequestBody BulkUpdateTaskStatusRequest request) {
+
+        log.info("Bulk updating task status to {}", request.getStatus());
+
+        var response = taskService.updateTaskStatuses(request);
 
-        return ResponseEntity.ok(updatedTask);
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -109,4 +245,4 @@ public class TaskController {
 
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,45 @@
+package com.taskmanager.task_manager_api.controller;
+
+import com.taskmanager.task_manager_api.exceptions.TaskVersionConflictException;
+import com.taskmanager.task_manager_api.model.dto.TaskResponse;
+
+/**
+ * Maps task versions to weak ETags and back
+ * The tag names a task version, not the bytes of one encoding, so JSON, CBOR and Smile bodies
+ * of the same version share it as weak validators; that also leaves them eligible for gzip.
+ */
+final class TaskETags {
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private TaskETags() {
+    }
+
+    static String of(TaskResponse task) {
+        return WEAK_PREFIX + "\"" + task.getVersion() + "\"";
+    }
+
+    /**
+     * Expected version from an If-Match header, or null when any version is acceptable
+     * Tags are compared by version, so both the weak tag handed out and its strong form are accepted;
+     * malformed tags fail the precondition. RFC 9110 asks for strong comparison here; the deviation is
+     * documented for clients in the readme.
+     */
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.strip().equals("*")) {
+            return null;
+        }
+        var tag = ifMatch.strip();
+        if (tag.startsWith(WEAK_PREFIX)) {
+            tag = tag.substring(WEAK_PREFIX.length());
+        }
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new TaskVersionConflictException("If-Match does not match the current task version");
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new TaskVersionConflictException("If-Match does not match the current task version", e);
+        }
+    }
+}
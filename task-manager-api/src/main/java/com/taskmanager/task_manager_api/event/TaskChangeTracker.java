@@ -0,0 +1,34 @@
+package com.taskmanager.task_manager_api.event;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Table-level change counter for the task list
+ * The generation only moves after a change commits, so a tag read before a query
+ * can never be newer than the data the query returns. The per-boot epoch keeps
+ * tags issued before a restart from matching the restarted counter.
+ */
+@Component
+public class TaskChangeTracker {
+
+    private final String epoch = Long.toHexString(ThreadLocalRandom.current().nextLong());
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Weak ETag describing the current state of the whole task table
+     * Weak because the same state is served as JSON, CBOR or Smile and gzipped or not, and Tomcat
+     * skips compression for responses carrying a strong tag.
+     */
+    public String currentTag() {
+        return "W/\"" + epoch + "-" + generation.get() + "\"";
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        generation.incrementAndGet();
+    }
+}
@@ -0,0 +1,41 @@
+package com.taskmanager.task_manager_api.event;
+
+import com.taskmanager.task_manager_api.model.Enum.TaskStatus;
+import com.taskmanager.task_manager_api.model.dto.TaskResponse;
+
+import java.util.UUID;
+
+/**
+ * Published by TaskService for every committed change to the task table
+ * {@code taskId} is null for set-based changes that touch many tasks.
+ * {@code previousStatus} and {@code status} describe the status move of {@code count} tasks;
+ * previousStatus is null for creations and status is null for deletions.
+ * {@code task} is the new state of a single created or updated task and null otherwise.
+ */
+public record TaskChangedEvent(Type type, UUID taskId, TaskStatus previousStatus, TaskStatus status, int count,
+                               TaskResponse task) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        STATUS_CHANGED,
+        DELETED,
+        BULK_STATUS_CHANGED
+    }
+
+    public static TaskChangedEvent created(TaskResponse task) {
+        return new TaskChangedEvent(Type.CREATED, task.getId(), null, task.getStatus(), 1, task);
+    }
+
+    public static TaskChangedEvent updated(Type type, TaskResponse task, TaskStatus previousStatus) {
+        return new TaskChangedEvent(type, task.getId(), previousStatus, task.getStatus(), 1, task);
+    }
+
+    public static TaskChangedEvent deleted(UUID taskId, TaskStatus previousStatus) {
+        return new TaskChangedEvent(Type.DELETED, taskId, previousStatus, null, 1, null);
+    }
+
+    public static TaskChangedEvent bulkStatusChanged(TaskStatus previousStatus, TaskStatus status, int count) {
+        return new TaskChangedEvent(Type.BULK_STATUS_CHANGED, null, previousStatus, status, count, null);
+    }
+}
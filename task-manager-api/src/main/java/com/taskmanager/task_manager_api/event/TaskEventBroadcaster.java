@@ -0,0 +1,136 @@
+package com.taskmanager.task_manager_api.event;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans committed task changes out to Server-Sent Events subscribers
+ * Each subscriber has a bounded buffer drained by its own virtual thread, so a slow client never
+ * blocks the committing request. When a buffer overflows its backlog is dropped and replaced by a
+ * single RESYNC event telling the client to refetch. Idle connections hold no platform thread:
+ * the servlet request is async and the drainer is a parked virtual thread.
+ */
+@Component
+@Slf4j
+public class TaskEventBroadcaster {
+
+    private static final String RESYNC_EVENT = "RESYNC";
+
+    // Queued in place of a dropped backlog; compared by identity
+    private static final TaskChangedEvent RESYNC = new TaskChangedEvent(null, null, null, null, 0, null);
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicLong subscriberIds = new AtomicLong();
+    private final int bufferSize;
+    private final Duration heartbeatInterval;
+    private final Duration timeout;
+
+    public TaskEventBroadcaster(@Value("${task.events.buffer-size:256}") int bufferSize,
+                                @Value("${task.events.heartbeat-interval:PT15S}") Duration heartbeatInterval,
+                                @Value("${task.events.timeout:PT30M}") Duration timeout) {
+        this.bufferSize = bufferSize;
+        this.heartbeatInterval = heartbeatInterval;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Open a new event stream; it ends after the configured timeout and clients are expected to reconnect
+     */
+    public SseEmitter subscribe() {
+        var emitter = new SseEmitter(timeout.toMillis());
+        var id = subscriberIds.incrementAndGet();
+        var subscriber = new Subscriber(emitter, new ArrayBlockingQueue<>(bufferSize));
+        subscriber.drainer = Thread.ofVirtual()
+                .name("task-events-" + id)
+                .unstarted(() -> drain(subscriber));
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+
+        subscribers.add(subscriber);
+        subscriber.drainer.start();
+        log.debug("Task event subscriber {} connected, {} open", id, subscribers.size());
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        for (var subscriber : subscribers) {
+            if (!subscriber.queue.offer(event)) {
+                // Slow consumer: replace its backlog with a single resync marker
+                subscriber.queue.clear();
+                while (!subscriber.queue.offer(RESYNC)) {
+                    subscriber.queue.clear();
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    private void drain(Subscriber subscriber) {
+        var emitter = subscriber.emitter;
+        try {
+            // Commit the response straight away so clients see the stream open
+            emitter.send(SseEmitter.event().comment("connected"));
+            while (subscribers.contains(subscriber)) {
+                var event = subscriber.queue.poll(heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+                if (event == null) {
+                    emitter.send(SseEmitter.event().comment("keepalive"));
+                } else if (event == RESYNC) {
+                    emitter.send(SseEmitter.event().name(RESYNC_EVENT).data(RESYNC_EVENT));
+                } else {
+                    emitter.send(SseEmitter.event()
+                            .name(event.type().name())
+                            .data(event, MediaType.APPLICATION_JSON));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            // Client went away or the emitter already completed
+            log.debug("Task event subscriber dropped: {}", e.getMessage());
+            remove(subscriber);
+            emitter.complete();
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (subscribers.remove(subscriber) && subscriber.drainer != Thread.currentThread()) {
+            subscriber.drainer.interrupt();
+        }
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<TaskChangedEvent> queue;
+        private Thread drainer;
+
+        private Subscriber(SseEmitter emitter, BlockingQueue<TaskChangedEvent> queue) {
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+    }
+}
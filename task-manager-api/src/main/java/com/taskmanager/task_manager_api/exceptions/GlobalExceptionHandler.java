@@ -39,6 +39,42 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
 
+    /**
+     * Handle TaskVersionConflictException
+     */
+    @ExceptionHandler(TaskVersionConflictException.class)
+    public ResponseEntity<ErrorResponse> handleTaskVersionConflictException(
+            TaskVersionConflictException ex, WebRequest request) {
+
+        log.warn("Task version conflict: {}", ex.getMessage());
+
+        var errorResponse = ErrorResponse.builder()
+                .message(ex.getMessage())
+                .error("Precondition Failed")
+                .status(HttpStatus.PRECONDITION_FAILED.value())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(errorResponse);
+    }
+
+    /**
+     * Handle TaskSyncTokenExpiredException
+     */
+    @ExceptionHandler(TaskSyncTokenExpiredException.class)
+    public ResponseEntity<ErrorResponse> handleTaskSyncTokenExpiredException(
+            TaskSyncTokenExpiredException ex, WebRequest request) {
+
+        log.warn("Task sync token expired: {}", ex.getMessage());
+
+        var errorResponse = ErrorResponse.builder()
+                .message(ex.getMessage())
+                .error("Gone")
+                .status(HttpStatus.GONE.value())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.GONE).body(errorResponse);
+    }
+
     /**
      * Handle validation errors
      */
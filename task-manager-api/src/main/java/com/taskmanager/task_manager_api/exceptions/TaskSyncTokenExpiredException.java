@@ -0,0 +1,12 @@
+package com.taskmanager.task_manager_api.exceptions;
+
+public class TaskSyncTokenExpiredException extends RuntimeException {
+
+    public TaskSyncTokenExpiredException(String message) {
+        super(message);
+    }
+
+    public TaskSyncTokenExpiredException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,12 @@
+package com.taskmanager.task_manager_api.exceptions;
+
+public class TaskVersionConflictException extends RuntimeException {
+
+    public TaskVersionConflictException(String message) {
+        super(message);
+    }
+
+    public TaskVersionConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
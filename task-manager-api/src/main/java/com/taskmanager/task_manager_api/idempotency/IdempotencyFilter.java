@@ -0,0 +1,347 @@
+package com.taskmanager.task_manager_api.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.task_manager_api.model.dto.ErrorResponse;
+import com.taskmanager.task_manager_api.ratelimit.ApiClientProperties;
+import com.taskmanager.task_manager_api.ratelimit.TaskEndpoint;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Honors Idempotency-Key on the task write endpoints (POST and PATCH under /api/tasks)
+ * The first request with a key runs and its response is stored; retries with the same key and the same
+ * request get that response back with Idempotent-Replayed: true instead of running again. Duplicates
+ * arriving on this node while the original is still running wait for it and share its response; a
+ * duplicate of a request running on another node gets 409 with Retry-After. Reusing a key for a
+ * different request is rejected with 422. Server errors are not stored, so the retry runs again. Bodies are
+ * buffered for the fingerprint, so ones over task.idempotency.max-body-size are rejected with 413.
+ */
+@Slf4j
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final String RETRY_AFTER_SECONDS = "1";
+    private static final List<String> STORED_HEADERS = List.of(HttpHeaders.LOCATION, HttpHeaders.ETAG);
+
+    private final IdempotencyStore store;
+    private final IdempotencyProperties properties;
+    private final ApiClientProperties apiClients;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Pending> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter replayed;
+    private final Counter coalesced;
+    private final Counter conflicted;
+
+    public IdempotencyFilter(IdempotencyStore store, IdempotencyProperties properties, ApiClientProperties apiClients,
+                             ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.store = store;
+        this.properties = properties;
+        this.apiClients = apiClients;
+        this.objectMapper = objectMapper;
+        this.executed = counter(meterRegistry, "executed");
+        this.replayed = counter(meterRegistry, "replayed");
+        this.coalesced = counter(meterRegistry, "coalesced");
+        this.conflicted = counter(meterRegistry, "conflict");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        var endpoint = TaskEndpoint.of(request);
+        return request.getHeader(properties.header()) == null
+                || (endpoint != TaskEndpoint.WRITE && endpoint != TaskEndpoint.BULK)
+                || !("POST".equals(request.getMethod()) || "PATCH".equals(request.getMethod()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        var idempotencyKey = request.getHeader(properties.header());
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            reject(response, HttpStatus.BAD_REQUEST,
+                   properties.header() + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        var maxBodySize = properties.maxBodySize().toBytes();
+        if (request.getContentLengthLong() > maxBodySize) {
+            reject(response, HttpStatus.CONTENT_TOO_LARGE, "Request body exceeds " + properties.maxBodySize());
+            return;
+        }
+        // Content-Length may be absent (chunked), so never read more than one byte past the cap
+        var body = request.getInputStream().readNBytes((int) Math.min(Integer.MAX_VALUE - 8, maxBodySize + 1));
+        if (body.length > maxBodySize) {
+            reject(response, HttpStatus.CONTENT_TOO_LARGE, "Request body exceeds " + properties.maxBodySize());
+            return;
+        }
+        var fingerprint = fingerprint(request, body);
+        var key = storeKey(request, idempotencyKey);
+
+        var pending = new Pending(fingerprint, new CompletableFuture<>());
+        var original = inFlight.putIfAbsent(key, pending);
+        if (original != null) {
+            awaitOriginal(original, fingerprint, response);
+            return;
+        }
+
+        StoredResponse outcome = null;
+        try {
+            var existing = store.reserve(key, fingerprint);
+            if (existing == null) {
+                outcome = execute(new CachedBodyRequest(request, body), response, chain, key, fingerprint);
+            } else if (!existing.fingerprint().equals(fingerprint)) {
+                rejectMismatch(response);
+            } else if (!existing.isComplete()) {
+                conflicted.increment();
+                reject(response, HttpStatus.CONFLICT, "A request with this " + properties.header() + " is still in progress");
+            } else {
+                replayed.increment();
+                outcome = existing.response();
+                replay(outcome, response);
+            }
+        } finally {
+            inFlight.remove(key, pending);
+            pending.response().complete(outcome);
+        }
+    }
+
+    private StoredResponse execute(HttpServletRequest request, HttpServletResponse response, FilterChain chain,
+                                   String key, String fingerprint) throws ServletException, IOException {
+        executed.increment();
+        var captured = new ContentCachingResponseWrapper(response);
+        var ran = false;
+        try {
+            chain.doFilter(request, captured);
+            ran = true;
+        } finally {
+            // Whatever stopped the request, including an Error, frees the key for a retry
+            if (!ran) {
+                store.release(key);
+            }
+        }
+
+        var headers = new LinkedHashMap<String, String>();
+        for (var name : STORED_HEADERS) {
+            var value = captured.getHeader(name);
+            if (value != null) {
+                headers.put(name, value);
+            }
+        }
+        var outcome = new StoredResponse(captured.getStatus(), captured.getContentType(), headers,
+                                         captured.getContentAsByteArray());
+        if (outcome.status() >= 500) {
+            store.release(key);
+        } else {
+            try {
+                store.complete(key, fingerprint, outcome);
+            } catch (RuntimeException e) {
+                // The write has happened; releasing would let a retry run it again, so the key stays claimed
+                // and retries get 409 until the claim expires
+                log.error("Could not store the response for an {}; the key stays claimed", properties.header(), e);
+            }
+        }
+        captured.copyBodyToResponse();
+        return outcome;
+    }
+
+    /**
+     * Wait for the same request already running on this node and answer with its response
+     */
+    private void awaitOriginal(Pending original, String fingerprint, HttpServletResponse response) throws IOException {
+        if (!original.fingerprint().equals(fingerprint)) {
+            rejectMismatch(response);
+            return;
+        }
+        StoredResponse outcome = null;
+        try {
+            outcome = original.response().get(properties.coalesceTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.debug("Coalesced request did not get the original's response: {}", e.toString());
+        }
+        if (outcome == null) {
+            conflicted.increment();
+            reject(response, HttpStatus.CONFLICT, "A request with this " + properties.header() + " is still in progress");
+            return;
+        }
+        coalesced.increment();
+        replay(outcome, response);
+    }
+
+    private void replay(StoredResponse stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.status());
+        stored.headers().forEach(response::setHeader);
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void rejectMismatch(HttpServletResponse response) throws IOException {
+        conflicted.increment();
+        reject(response, HttpStatus.UNPROCESSABLE_ENTITY,
+               properties.header() + " was already used for a different request");
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        log.warn("Idempotency-Key rejected with {}: {}", status.value(), message);
+
+        var errorResponse = ErrorResponse.builder()
+                .message(message)
+                .error(status.getReasonPhrase())
+                .status(status.value())
+                .build();
+
+        response.setStatus(status.value());
+        if (status == HttpStatus.CONFLICT) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    /**
+     * Keys are scoped to the client so two clients choosing the same key never see each other's responses
+     * The client is its issued API key, or its remote address without one; hashed so the store holds a
+     * fixed-size key and never the client's API key itself
+     */
+    private String storeKey(HttpServletRequest request, String idempotencyKey) {
+        var apiKey = apiClients.validatedApiKey(request);
+        var client = apiKey != null ? "key:" + apiKey : "ip:" + request.getRemoteAddr();
+        return sha256(List.of(client.getBytes(StandardCharsets.UTF_8),
+                              idempotencyKey.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String fingerprint(HttpServletRequest request, byte[] body) {
+        var target = request.getQueryString() == null
+                ? request.getRequestURI()
+                : request.getRequestURI() + "?" + request.getQueryString();
+        return sha256(List.of(request.getMethod().getBytes(StandardCharsets.UTF_8),
+                              target.getBytes(StandardCharsets.UTF_8),
+                              body));
+    }
+
+    private static String sha256(List<byte[]> parts) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256");
+            for (var part : parts) {
+                // Length-prefix each part so ("ab", "c") and ("a", "bc") hash differently
+                digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(part.length).array());
+                digest.update(part);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static Counter counter(MeterRegistry registry, String outcome) {
+        return Counter.builder("task.idempotency.requests")
+                .description("Task writes carrying an Idempotency-Key, by outcome")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    /**
+     * A request running on this node; completes with its response, or null when it produced none to share
+     */
+    private record Pending(String fingerprint, CompletableFuture<StoredResponse> response) {
+    }
+
+    /**
+     * Replays the body read for the fingerprint to the rest of the chain
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            var in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return in.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException("Asynchronous reads are not supported");
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            var encoding = getCharacterEncoding() != null ? getCharacterEncoding() : StandardCharsets.UTF_8.name();
+            return new BufferedReader(new InputStreamReader(getInputStream(), Charset.forName(encoding)));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.taskmanager.task_manager_api.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Idempotency-Key settings, bound from task.idempotency.*
+ *
+ * @param header          request header carrying the client's idempotency key
+ * @param store           where keys live: MEMORY for a single node, JDBC to share them between nodes
+ * @param ttl             how long a completed response is replayed for
+ * @param lease           how long a JDBC key stays claimed by a request that has not finished,
+ *                        so a crashed node cannot block the key for the whole ttl
+ * @param coalesceTimeout how long a duplicate waits for the in-flight original before getting 409
+ * @param maxSize         memory held by the in-memory store; the least used keys go first
+ * @param maxBodySize     largest request body buffered for the fingerprint; bigger ones get 413
+ */
+@ConfigurationProperties("task.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("Idempotency-Key") String header,
+        @DefaultValue("memory") Store store,
+        @DefaultValue("PT24H") Duration ttl,
+        @DefaultValue("PT1M") Duration lease,
+        @DefaultValue("PT10S") Duration coalesceTimeout,
+        @DefaultValue("32MB") DataSize maxSize,
+        @DefaultValue("4MB") DataSize maxBodySize) {
+
+    public enum Store {
+        MEMORY,
+        JDBC
+    }
+
+    public IdempotencyProperties {
+        if (ttl.isNegative() || ttl.isZero() || lease.isNegative() || lease.isZero()) {
+            throw new IllegalArgumentException("task.idempotency needs a positive ttl and lease");
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.taskmanager.task_manager_api.idempotency;
+
+/**
+ * What a store holds under one key: the fingerprint of the request that claimed it and, once that
+ * request has finished, its response
+ */
+public record IdempotencyRecord(String fingerprint, StoredResponse response) {
+
+    public boolean isComplete() {
+        return response != null;
+    }
+}
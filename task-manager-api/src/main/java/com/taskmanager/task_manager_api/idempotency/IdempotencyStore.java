@@ -0,0 +1,24 @@
+package com.taskmanager.task_manager_api.idempotency;
+
+/**
+ * Expiring store of idempotency keys and the responses produced under them
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Claim the key for a request with this fingerprint
+     * Returns null when the caller now owns the key and must complete or release it, otherwise the
+     * record already held under the key.
+     */
+    IdempotencyRecord reserve(String key, String fingerprint);
+
+    /**
+     * Store the owner's response; it is replayed for the key until the ttl runs out
+     */
+    void complete(String key, String fingerprint, StoredResponse response);
+
+    /**
+     * Give up the claim without a response so a retry runs the request again
+     */
+    void release(String key);
+}
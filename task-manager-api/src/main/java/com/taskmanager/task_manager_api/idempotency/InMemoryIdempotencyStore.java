@@ -0,0 +1,41 @@
+package com.taskmanager.task_manager_api.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Idempotency keys held in this node's memory, bounded by bytes and expired after the ttl
+ * Enough for a single instance; behind a load balancer retries can land on another node, so use the
+ * JDBC store there.
+ */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    // Key, fingerprint, record objects and header map on top of the body
+    private static final int ENTRY_OVERHEAD_BYTES = 384;
+
+    private final Cache<String, IdempotencyRecord> records;
+
+    public InMemoryIdempotencyStore(IdempotencyProperties properties) {
+        this.records = Caffeine.newBuilder()
+                .expireAfterWrite(properties.ttl())
+                .maximumWeight(properties.maxSize().toBytes())
+                .weigher((String key, IdempotencyRecord record) -> ENTRY_OVERHEAD_BYTES
+                        + (record.isComplete() ? record.response().byteLength() : 0))
+                .build();
+    }
+
+    @Override
+    public IdempotencyRecord reserve(String key, String fingerprint) {
+        return records.asMap().putIfAbsent(key, new IdempotencyRecord(fingerprint, null));
+    }
+
+    @Override
+    public void complete(String key, String fingerprint, StoredResponse response) {
+        records.put(key, new IdempotencyRecord(fingerprint, response));
+    }
+
+    @Override
+    public void release(String key) {
+        records.invalidate(key);
+    }
+}
@@ -0,0 +1,151 @@
+package com.taskmanager.task_manager_api.idempotency;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Idempotency keys in the task_idempotency_key table, shared by every node on the database
+ * A claim is a single upsert that only succeeds for a new or expired key. Claims in progress expire
+ * after the lease so a crashed node frees its keys; completed keys live for the ttl. Expiry is measured
+ * on the database clock, and expired rows are purged in the background.
+ */
+@Slf4j
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+    private static final String RESERVE_SQL = """
+            insert into task_idempotency_key (idempotency_key, fingerprint, expires_at)
+            values (:key, :fingerprint, localtimestamp + make_interval(secs => :leaseSeconds))
+            on conflict (idempotency_key) do update
+                set fingerprint = excluded.fingerprint,
+                    status = null,
+                    content_type = null,
+                    headers = null,
+                    body = null,
+                    expires_at = excluded.expires_at
+                where task_idempotency_key.expires_at < localtimestamp
+            """;
+
+    private static final String FIND_SQL = """
+            select fingerprint, status, content_type, headers, body
+            from task_idempotency_key
+            where idempotency_key = :key and expires_at >= localtimestamp
+            """;
+
+    private static final String COMPLETE_SQL = """
+            update task_idempotency_key
+            set status = :status,
+                content_type = :contentType,
+                headers = :headers,
+                body = :body,
+                expires_at = localtimestamp + make_interval(secs => :ttlSeconds)
+            where idempotency_key = :key and fingerprint = :fingerprint and status is null
+            """;
+
+    private static final String RELEASE_SQL = """
+            delete from task_idempotency_key
+            where idempotency_key = :key and status is null
+            """;
+
+    private static final String PURGE_SQL = """
+            delete from task_idempotency_key
+            where expires_at < localtimestamp
+            """;
+
+    private final JdbcClient jdbcClient;
+    private final double leaseSeconds;
+    private final double ttlSeconds;
+
+    public JdbcIdempotencyStore(JdbcClient jdbcClient, IdempotencyProperties properties) {
+        this.jdbcClient = jdbcClient;
+        this.leaseSeconds = seconds(properties.lease());
+        this.ttlSeconds = seconds(properties.ttl());
+    }
+
+    @Override
+    public IdempotencyRecord reserve(String key, String fingerprint) {
+        while (true) {
+            var claimed = jdbcClient.sql(RESERVE_SQL)
+                    .param("key", key)
+                    .param("fingerprint", fingerprint)
+                    .param("leaseSeconds", leaseSeconds)
+                    .update();
+            if (claimed == 1) {
+                return null;
+            }
+            var existing = jdbcClient.sql(FIND_SQL)
+                    .param("key", key)
+                    .query(JdbcIdempotencyStore::toRecord)
+                    .optional();
+            // Otherwise the row was released or expired in between; claim it again
+            if (existing.isPresent()) {
+                return existing.get();
+            }
+        }
+    }
+
+    @Override
+    public void complete(String key, String fingerprint, StoredResponse response) {
+        jdbcClient.sql(COMPLETE_SQL)
+                .param("key", key)
+                .param("fingerprint", fingerprint)
+                .param("status", response.status())
+                .param("contentType", response.contentType())
+                .param("headers", encodeHeaders(response.headers()))
+                .param("body", response.body())
+                .param("ttlSeconds", ttlSeconds)
+                .update();
+    }
+
+    @Override
+    public void release(String key) {
+        jdbcClient.sql(RELEASE_SQL)
+                .param("key", key)
+                .update();
+    }
+
+    @Scheduled(initialDelayString = "${task.idempotency.purge-interval:PT10M}",
+               fixedDelayString = "${task.idempotency.purge-interval:PT10M}")
+    public void purgeExpired() {
+        var purged = jdbcClient.sql(PURGE_SQL).update();
+        log.debug("Purged {} expired idempotency keys", purged);
+    }
+
+    private static IdempotencyRecord toRecord(ResultSet rs, int rowNum) throws SQLException {
+        var status = rs.getObject("status", Integer.class);
+        var response = status == null
+                ? null
+                : new StoredResponse(status, rs.getString("content_type"), decodeHeaders(rs.getString("headers")),
+                                     rs.getBytes("body"));
+        return new IdempotencyRecord(rs.getString("fingerprint"), response);
+    }
+
+    // One "Name: value" line per header; header values cannot contain line breaks
+    private static String encodeHeaders(Map<String, String> headers) {
+        return headers.entrySet().stream()
+                .map(header -> header.getKey() + ": " + header.getValue())
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static Map<String, String> decodeHeaders(String headers) {
+        var decoded = new LinkedHashMap<String, String>();
+        if (headers != null && !headers.isEmpty()) {
+            for (var line : headers.split("\n")) {
+                var separator = line.indexOf(": ");
+                decoded.put(line.substring(0, separator), line.substring(separator + 2));
+            }
+        }
+        return decoded;
+    }
+
+    private static double seconds(Duration duration) {
+        return duration.toMillis() / 1000.0;
+    }
+}
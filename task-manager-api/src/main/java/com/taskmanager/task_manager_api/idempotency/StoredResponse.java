@@ -0,0 +1,14 @@
+package com.taskmanager.task_manager_api.idempotency;
+
+import java.util.Map;
+
+/**
+ * The response a request produced, kept so retries with the same Idempotency-Key get it back
+ * Only the headers a client acts on are kept (Location and ETag); everything else is recomputed.
+ */
+public record StoredResponse(int status, String contentType, Map<String, String> headers, byte[] body) {
+
+    int byteLength() {
+        return body.length + headers.values().stream().mapToInt(String::length).sum();
+    }
+}
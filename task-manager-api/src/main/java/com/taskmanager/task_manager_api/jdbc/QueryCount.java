@@ -0,0 +1,11 @@
+package com.taskmanager.task_manager_api.jdbc;
+
+/**
+ * JDBC work done on one thread while counting was active
+ * {@code statements} counts every SQL statement, each row of a batch included;
+ * {@code roundTrips} counts executions sent to the database, where a whole batch is one.
+ */
+public record QueryCount(long statements, long roundTrips) {
+
+    public static final QueryCount NONE = new QueryCount(0, 0);
+}
@@ -0,0 +1,133 @@
+package com.taskmanager.task_manager_api.jdbc;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts the JDBC statements and round trips behind each HTTP request
+ * Always records them as the jdbc.request.statements / jdbc.request.round.trips distributions, tagged by
+ * method and route template. With the header enabled (meant for development and tests) the counts are
+ * also returned as response headers, written just before the response commits.
+ */
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+    public static final String ROUND_TRIPS_HEADER = "X-Sql-Round-Trips";
+
+    private static final double[] SLO = {1, 2, 3, 5, 10, 25, 50};
+
+    private final MeterRegistry meterRegistry;
+    private final boolean headerEnabled;
+    // Meters resolved once per route, so recording stays off the registry's lookup path
+    private final Map<Route, Summaries> summariesByRoute = new ConcurrentHashMap<>();
+
+    public QueryCountFilter(MeterRegistry meterRegistry, boolean headerEnabled) {
+        this.meterRegistry = meterRegistry;
+        this.headerEnabled = headerEnabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryCounter.begin();
+        try {
+            chain.doFilter(request, headerEnabled ? new CountHeaderResponse(response) : response);
+        } finally {
+            record(request, QueryCounter.end());
+        }
+    }
+
+    private void record(HttpServletRequest request, QueryCount count) {
+        var uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        var route = new Route(request.getMethod(), uri != null ? uri.toString() : "UNKNOWN");
+
+        var summaries = summariesByRoute.computeIfAbsent(route, this::register);
+        summaries.statements().record(count.statements());
+        summaries.roundTrips().record(count.roundTrips());
+    }
+
+    private Summaries register(Route route) {
+        var statements = DistributionSummary.builder("jdbc.request.statements")
+                .description("SQL statements executed per HTTP request")
+                .tags("method", route.method(), "uri", route.uri())
+                .serviceLevelObjectives(SLO)
+                .register(meterRegistry);
+        var roundTrips = DistributionSummary.builder("jdbc.request.round.trips")
+                .description("JDBC executions sent to the database per HTTP request")
+                .tags("method", route.method(), "uri", route.uri())
+                .serviceLevelObjectives(SLO)
+                .register(meterRegistry);
+        return new Summaries(statements, roundTrips);
+    }
+
+    private record Route(String method, String uri) {
+    }
+
+    private record Summaries(DistributionSummary statements, DistributionSummary roundTrips) {
+    }
+
+    /**
+     * Adds the count headers at the first point the response can commit: body access, flush or error
+     */
+    private static final class CountHeaderResponse extends HttpServletResponseWrapper {
+
+        private boolean headersWritten;
+
+        private CountHeaderResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeaders();
+            super.sendError(sc);
+        }
+
+        private void writeHeaders() {
+            if (headersWritten || isCommitted()) {
+                return;
+            }
+            headersWritten = true;
+            var count = QueryCounter.current();
+            setHeader(STATEMENTS_HEADER, Long.toString(count.statements()));
+            setHeader(ROUND_TRIPS_HEADER, Long.toString(count.roundTrips()));
+        }
+    }
+}
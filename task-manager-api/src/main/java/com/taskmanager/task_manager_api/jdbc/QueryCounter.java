@@ -0,0 +1,60 @@
+package com.taskmanager.task_manager_api.jdbc;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * Counts statements executed through the proxied DataSource on the current thread
+ * Counting is off until {@link #begin()} is called, so connections used by schedulers or startup are not
+ * tracked. A request is served on one thread, so a thread-local is all the scoping needed.
+ */
+public class QueryCounter implements QueryExecutionListener {
+
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Start counting on this thread from zero
+     */
+    public static void begin() {
+        CURRENT.set(new Counts());
+    }
+
+    /**
+     * Counts so far on this thread, NONE when counting is off
+     */
+    public static QueryCount current() {
+        var counts = CURRENT.get();
+        return counts == null ? QueryCount.NONE : new QueryCount(counts.statements, counts.roundTrips);
+    }
+
+    /**
+     * Stop counting on this thread and return the final counts
+     */
+    public static QueryCount end() {
+        var count = current();
+        CURRENT.remove();
+        return count;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        var counts = CURRENT.get();
+        if (counts == null) {
+            return;
+        }
+        counts.roundTrips++;
+        counts.statements += execInfo.isBatch() ? execInfo.getBatchSize() : queryInfoList.size();
+    }
+
+    private static final class Counts {
+        private long statements;
+        private long roundTrips;
+    }
+}
@@ -0,0 +1,104 @@
+package com.taskmanager.task_manager_api.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.json.UTF8JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.taskmanager.task_manager_api.model.dto.TaskResponse;
+
+import java.io.IOException;
+
+/**
+ * Writes TaskResponse from TaskJsonCache, encoding it with Jackson's own bean serializer on a miss
+ * Only compact UTF-8 JSON output is cached. CBOR and Smile generators, pretty printing, views,
+ * property-level overrides and writers with other serialization features all go straight to the bean
+ * serializer, so the cached bytes are always exactly what it would have written. Writers carrying the
+ * {@link #BYPASS_CACHE} attribute, such as the full export, skip the cache so cold rows cannot evict hot ones.
+ */
+public class CachedTaskResponseSerializer extends StdSerializer<TaskResponse>
+        implements ResolvableSerializer, ContextualSerializer {
+
+    /**
+     * ObjectWriter attribute that turns the cache off for everything the writer writes
+     */
+    public static final String BYPASS_CACHE = CachedTaskResponseSerializer.class.getName() + ".bypass";
+
+    private final TaskJsonCache cache;
+    private final JsonSerializer<Object> delegate;
+    // Features of the mapper the serializer was built for, e.g. dates as strings and enums by name
+    private final int serializationFeatures;
+
+    public CachedTaskResponseSerializer(TaskJsonCache cache, JsonSerializer<Object> delegate,
+                                        int serializationFeatures) {
+        super(TaskResponse.class);
+        this.cache = cache;
+        this.delegate = delegate;
+        this.serializationFeatures = serializationFeatures;
+    }
+
+    @Override
+    public void serialize(TaskResponse task, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (!cacheable(task, gen, provider)) {
+            delegate.serialize(task, gen, provider);
+            return;
+        }
+        var encoded = cache.get(task.getId(), task.getVersion(), task.getUpdatedAt());
+        if (encoded == null) {
+            encoded = cache.put(task.getId(), task.getVersion(), task.getUpdatedAt(), encode(task, gen, provider));
+        }
+        gen.writeRawValue(encoded);
+    }
+
+    @Override
+    public void serializeWithType(TaskResponse task, JsonGenerator gen, SerializerProvider provider,
+                                  TypeSerializer typeSerializer) throws IOException {
+        delegate.serializeWithType(task, gen, provider, typeSerializer);
+    }
+
+    @Override
+    public void resolve(SerializerProvider provider) throws JsonMappingException {
+        if (delegate instanceof ResolvableSerializer resolvable) {
+            resolvable.resolve(provider);
+        }
+    }
+
+    @Override
+    public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
+            throws JsonMappingException {
+        if (delegate instanceof ContextualSerializer contextual) {
+            var contextualDelegate = contextual.createContextual(provider, property);
+            // A property-level override changes the output, so it must not share cached bytes
+            if (contextualDelegate != delegate) {
+                return contextualDelegate;
+            }
+        }
+        return this;
+    }
+
+    private boolean cacheable(TaskResponse task, JsonGenerator gen, SerializerProvider provider) {
+        return gen instanceof UTF8JsonGenerator
+                && gen.getPrettyPrinter() == null
+                && gen.getCodec() != null
+                && provider.getActiveView() == null
+                && provider.getAttribute(BYPASS_CACHE) == null
+                && provider.getConfig().getSerializationFeatures() == serializationFeatures
+                && task.getId() != null
+                && task.getVersion() != null;
+    }
+
+    private byte[] encode(TaskResponse task, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        try (var buffer = new ByteArrayBuilder();
+             var encoder = gen.getCodec().getFactory().createGenerator(buffer)) {
+            delegate.serialize(task, encoder, provider);
+            encoder.flush();
+            return buffer.toByteArray();
+        }
+    }
+}
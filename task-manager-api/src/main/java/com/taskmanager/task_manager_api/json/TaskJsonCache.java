@@ -0,0 +1,79 @@
+package com.taskmanager.task_manager_api.json;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskmanager.task_manager_api.event.TaskChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Encoded JSON of recently served tasks, bounded by total bytes
+ * Entries are keyed by task id and only served for the exact version and updatedAt they were encoded
+ * from, so a stale entry can never be written out. Evicting on committed changes just hands the
+ * memory back early instead of waiting for the weigher to push the old version out.
+ */
+public class TaskJsonCache implements MeterBinder {
+
+    static final String NAME = "taskJson";
+
+    // Key, entry object, LocalDateTime and array header on top of the JSON itself
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+
+    private final Cache<UUID, EncodedTask> entries;
+
+    public TaskJsonCache(long maxBytes) {
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((UUID id, EncodedTask task) -> task.byteLength() + ENTRY_OVERHEAD_BYTES)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Cached bytes for this state of the task, or null when it has not been encoded yet
+     */
+    public EncodedTask get(UUID id, long version, LocalDateTime updatedAt) {
+        var task = entries.getIfPresent(id);
+        return task != null && task.matches(version, updatedAt) ? task : null;
+    }
+
+    public EncodedTask put(UUID id, long version, LocalDateTime updatedAt, byte[] utf8) {
+        var task = new EncodedTask(version, updatedAt, utf8);
+        entries.put(id, task);
+        return task;
+    }
+
+    /**
+     * Total bytes held, including the per-entry overhead estimate
+     */
+    public long weightedSize() {
+        return entries.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0))
+                .orElse(0L);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.taskId() != null) {
+            entries.invalidate(event.taskId());
+        } else {
+            // Set-based change; the ids are unknown, so start over like the task cache does
+            entries.invalidateAll();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, entries, NAME);
+        Gauge.builder("task.json.cache.bytes", this, TaskJsonCache::weightedSize)
+                .description("Bytes held by the encoded task JSON cache")
+                .baseUnit("bytes")
+                .register(registry);
+    }
+}
@@ -0,0 +1,31 @@
+package com.taskmanager.task_manager_api.json;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.taskmanager.task_manager_api.model.dto.TaskResponse;
+
+/**
+ * Jackson module that routes TaskResponse serialization through the encoded JSON cache
+ * The bean serializer Jackson builds is kept as the delegate, so modules and features configured on the
+ * ObjectMapper still decide what the bytes look like.
+ */
+public class TaskJsonCacheModule extends SimpleModule {
+
+    public TaskJsonCacheModule(TaskJsonCache cache) {
+        super("TaskJsonCacheModule");
+        setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription description,
+                                                      JsonSerializer<?> serializer) {
+                return description.getBeanClass() == TaskResponse.class
+                        ? new CachedTaskResponseSerializer(cache, (JsonSerializer<Object>) serializer,
+                                config.getSerializationFeatures())
+                        : serializer;
+            }
+        });
+    }
+}
@@ -0,0 +1,91 @@
+package com.taskmanager.task_manager_api.loadshed;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrency limit that adapts to observed latency (additive increase, multiplicative decrease)
+ * Every completed request is a sample: a slow or failed one multiplies the limit by the backoff ratio,
+ * a fast one raises it by one while the limit is actually being used. Slow is judged against the threshold
+ * of the request's priority, and the limit backs off at most once per round trip: requests admitted before
+ * the last backoff saw the old limit, so a burst of slow responses to one spike cuts it only once.
+ * Requests over their priority's share of the limit are rejected straight away instead of queueing for a
+ * database connection. Admission and release are CAS loops on two counters.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final ConcurrencyLimitProperties properties;
+    private final Map<RequestPriority, Long> latencyThresholdNanos = new EnumMap<>(RequestPriority.class);
+    private final AtomicInteger limit;
+    // When the limit last backed off; overload samples from requests admitted before it are ignored
+    private final AtomicLong lastBackoffNanos = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<RequestPriority, LongAdder> rejected = new EnumMap<>(RequestPriority.class);
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties) {
+        this.properties = properties;
+        this.limit = new AtomicInteger(properties.initialLimit());
+        for (var priority : RequestPriority.values()) {
+            latencyThresholdNanos.put(priority, properties.latencyThreshold(priority).toNanos());
+            rejected.put(priority, new LongAdder());
+        }
+    }
+
+    /**
+     * Take a slot if requests in flight are below this priority's share of the limit
+     * Every successful call must be paired with {@link #release}
+     */
+    public boolean tryAcquire(RequestPriority priority) {
+        var allowed = Math.max(1, (int) (limit.get() * priority.share()));
+        while (true) {
+            var current = inFlight.get();
+            if (current >= allowed) {
+                rejected.get(priority).increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Return a slot and feed the request's outcome into the limit
+     *
+     * @param startNanos System.nanoTime() when the request was admitted
+     * @param endNanos   System.nanoTime() when it completed
+     * @param overloaded the request failed in a way that points at an overloaded backend (5xx)
+     */
+    public void release(RequestPriority priority, long startNanos, long endNanos, boolean overloaded) {
+        var wasInFlight = inFlight.getAndDecrement();
+        if (overloaded || endNanos - startNanos > latencyThresholdNanos.get(priority)) {
+            backOff(startNanos, endNanos);
+        } else if (wasInFlight * 2 >= limit.get()) {
+            // Only grow while the limit is the constraint, so an idle service does not drift to the maximum
+            limit.updateAndGet(current -> Math.min(properties.maxLimit(), current + 1));
+        }
+    }
+
+    private void backOff(long startNanos, long endNanos) {
+        var last = lastBackoffNanos.get();
+        if (startNanos <= last || !lastBackoffNanos.compareAndSet(last, endNanos)) {
+            return;
+        }
+        limit.updateAndGet(current -> Math.max(properties.minLimit(), (int) (current * properties.backoffRatio())));
+    }
+
+    public int limit() {
+        return limit.get();
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public long rejected(RequestPriority priority) {
+        return rejected.get(priority).sum();
+    }
+}
@@ -0,0 +1,32 @@
+package com.taskmanager.task_manager_api.loadshed;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Current state of the adaptive concurrency limiter at /actuator/concurrencylimit
+ */
+@Endpoint(id = "concurrencylimit")
+public class ConcurrencyLimitEndpoint {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public ConcurrencyLimitEndpoint(AdaptiveConcurrencyLimiter limiter) {
+        this.limiter = limiter;
+    }
+
+    @ReadOperation
+    public ConcurrencyLimitState state() {
+        var rejected = new EnumMap<RequestPriority, Long>(RequestPriority.class);
+        for (var priority : RequestPriority.values()) {
+            rejected.put(priority, limiter.rejected(priority));
+        }
+        return new ConcurrencyLimitState(limiter.limit(), limiter.inFlight(), rejected);
+    }
+
+    public record ConcurrencyLimitState(int limit, int inFlight, Map<RequestPriority, Long> rejected) {
+    }
+}
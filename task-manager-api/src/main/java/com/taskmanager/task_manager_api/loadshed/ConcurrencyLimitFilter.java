@@ -0,0 +1,77 @@
+package com.taskmanager.task_manager_api.loadshed;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.task_manager_api.model.dto.ErrorResponse;
+import com.taskmanager.task_manager_api.ratelimit.TaskEndpoint;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Sheds load on /api/tasks once the adaptive concurrency limit is reached
+ * Rejected requests get 503 with Retry-After immediately, before they can queue on the connection pool.
+ * The streaming export and event endpoints are not limited.
+ */
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ObjectMapper objectMapper;
+
+    public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter, ObjectMapper objectMapper) {
+        this.limiter = limiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        var endpoint = TaskEndpoint.of(request);
+        var priority = endpoint != null ? RequestPriority.of(endpoint) : null;
+        if (priority == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        if (!limiter.tryAcquire(priority)) {
+            reject(request, response, priority);
+            return;
+        }
+
+        var start = System.nanoTime();
+        var overloaded = true;
+        try {
+            chain.doFilter(request, response);
+            overloaded = response.getStatus() >= 500;
+        } finally {
+            limiter.release(priority, start, System.nanoTime(), overloaded);
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, RequestPriority priority)
+            throws IOException {
+        log.warn("Shedding {} {} ({} priority): concurrency limit {} reached", request.getMethod(),
+                 request.getRequestURI(), priority, limiter.limit());
+
+        var errorResponse = ErrorResponse.builder()
+                .message("Server is at capacity, retry shortly")
+                .error("Service Unavailable")
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .build();
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+}
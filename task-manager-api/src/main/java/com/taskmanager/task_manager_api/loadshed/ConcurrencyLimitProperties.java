@@ -0,0 +1,42 @@
+package com.taskmanager.task_manager_api.loadshed;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Adaptive concurrency limit settings, bound from task.concurrency-limit.*
+ *
+ * @param initialLimit                concurrent requests admitted before any latency has been observed
+ * @param minLimit                    floor the limit never backs off below
+ * @param maxLimit                    ceiling the limit never grows past
+ * @param latencyThreshold            a point read or write slower than this counts as a sign of overload
+ * @param lowPriorityLatencyThreshold the same for list, search, changes and bulk calls, which are slower by nature
+ * @param backoffRatio                factor the limit is multiplied by, at most once per round trip, on overload
+ */
+@ConfigurationProperties("task.concurrency-limit")
+public record ConcurrencyLimitProperties(
+        @DefaultValue("40") int initialLimit,
+        @DefaultValue("8") int minLimit,
+        @DefaultValue("400") int maxLimit,
+        @DefaultValue("PT0.25S") Duration latencyThreshold,
+        @DefaultValue("PT2S") Duration lowPriorityLatencyThreshold,
+        @DefaultValue("0.9") double backoffRatio) {
+
+    public ConcurrencyLimitProperties {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("task.concurrency-limit needs 1 <= min-limit <= initial-limit <= max-limit");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("task.concurrency-limit.backoff-ratio must be between 0 and 1");
+        }
+    }
+
+    /**
+     * Latency above which a request of this priority counts as a sign of overload
+     */
+    public Duration latencyThreshold(RequestPriority priority) {
+        return priority == RequestPriority.LOW ? lowPriorityLatencyThreshold : latencyThreshold;
+    }
+}
@@ -0,0 +1,37 @@
+package com.taskmanager.task_manager_api.loadshed;
+
+import com.taskmanager.task_manager_api.ratelimit.TaskEndpoint;
+
+/**
+ * Admission classes for the concurrency limiter
+ * Each class may only fill its share of the current limit, so as the limit shrinks the expensive classes
+ * are shed first and cheap point reads keep the last slots.
+ */
+public enum RequestPriority {
+    HIGH(1.0),
+    NORMAL(0.8),
+    LOW(0.5);
+
+    private final double share;
+
+    RequestPriority(double share) {
+        this.share = share;
+    }
+
+    public double share() {
+        return share;
+    }
+
+    /**
+     * Priority of a task endpoint; null for the streaming endpoints, which hold a request open for as long as
+     * the client reads and would pin limiter slots and skew its latency samples
+     */
+    public static RequestPriority of(TaskEndpoint endpoint) {
+        return switch (endpoint) {
+            case READ, STATS -> HIGH;
+            case WRITE -> NORMAL;
+            case LIST, SEARCH, CHANGES, BULK -> LOW;
+            case EXPORT, EVENTS -> null;
+        };
+    }
+}
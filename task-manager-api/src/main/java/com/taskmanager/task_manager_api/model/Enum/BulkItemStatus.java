@@ -0,0 +1,6 @@
+package com.taskmanager.task_manager_api.model.Enum;
+
+public enum BulkItemStatus {
+    CREATED,
+    REJECTED
+}
@@ -0,0 +1,38 @@
+package com.taskmanager.task_manager_api.model.Enum;
+
+import java.util.Arrays;
+
+/**
+ * Orderings supported by the task list endpoint
+ * Every ordering ends with the task id so keyset positions are unique
+ */
+public enum TaskSort {
+    CREATED_AT("createdAt"),
+    TITLE("title"),
+    STATUS("status");
+
+    private final String value;
+
+    TaskSort(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public static TaskSort fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return CREATED_AT;
+        }
+        return Arrays.stream(values())
+                .filter(sort -> sort.value.equalsIgnoreCase(value) || sort.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported sort: " + value));
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
@@ -0,0 +1,18 @@
+package com.taskmanager.task_manager_api.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkCreateTaskResponse {
+    private int created;
+    private int rejected;
+    private List<BulkCreateTaskResult> results;
+}
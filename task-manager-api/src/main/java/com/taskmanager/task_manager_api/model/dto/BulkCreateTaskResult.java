@@ -0,0 +1,24 @@
+package com.taskmanager.task_manager_api.model.dto;
+
+import com.taskmanager.task_manager_api.model.Enum.BulkItemStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Outcome of a single item in a bulk create request
+ * {@code index} is the item's position in the request array
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkCreateTaskResult {
+    private int index;
+    private BulkItemStatus status;
+    private UUID id;
+    private String error;
+}
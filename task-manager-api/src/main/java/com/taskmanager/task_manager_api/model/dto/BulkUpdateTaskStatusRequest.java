@@ -0,0 +1,27 @@
+package com.taskmanager.task_manager_api.model.dto;
+
+import com.taskmanager.task_manager_api.model.Enum.TaskStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Moves a set of tasks to a target status
+ * Select the tasks either by {@code ids} or by their current {@code fromStatus}, not both
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkUpdateTaskStatusRequest {
+    private List<UUID> ids;
+    private TaskStatus fromStatus;
+
+    @NotNull(message = "Task status cannot be null")
+    private TaskStatus status;
+}
@@ -0,0 +1,14 @@
+package com.taskmanager.task_manager_api.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkUpdateTaskStatusResponse {
+    private int updated;
+}
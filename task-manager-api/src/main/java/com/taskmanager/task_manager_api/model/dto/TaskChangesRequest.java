@@ -0,0 +1,18 @@
+package com.taskmanager.task_manager_api.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Query parameters accepted by GET /api/tasks/changes
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskChangesRequest {
+    private String since;
+    private Integer limit;
+}
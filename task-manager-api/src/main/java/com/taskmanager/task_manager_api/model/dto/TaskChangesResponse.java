@@ -0,0 +1,25 @@
+package com.taskmanager.task_manager_api.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One page of a delta sync: tasks created or updated and ids of tasks deleted since the client's token.
+ * {@code next} is always set; while {@code hasMore} is true it continues this sync, otherwise it is the
+ * token to send on the next sync.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskChangesResponse {
+    private List<TaskResponse> changed;
+    private List<UUID> deleted;
+    private String next;
+    private boolean hasMore;
+}
@@ -0,0 +1,24 @@
+package com.taskmanager.task_manager_api.model.dto;
+
+import com.taskmanager.task_manager_api.model.Enum.TaskStatus;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Query parameters accepted by GET /api/tasks
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskListRequest {
+    private TaskStatus status;
+    private String q;
+    private String sort;
+    private String cursor;
+    @Positive(message = "Limit must be greater than zero")
+    private Integer limit;
+}
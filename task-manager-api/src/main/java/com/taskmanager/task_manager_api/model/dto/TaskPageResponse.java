@@ -0,0 +1,21 @@
+package com.taskmanager.task_manager_api.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A single page of tasks together with the opaque cursor for the next page.
+ * {@code next} is null when there are no more tasks to fetch.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskPageResponse {
+    private List<TaskResponse> items;
+    private String next;
+}
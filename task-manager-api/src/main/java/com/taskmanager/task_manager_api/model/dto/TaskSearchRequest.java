@@ -0,0 +1,23 @@
+package com.taskmanager.task_manager_api.model.dto;
+
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Query parameters accepted by GET /api/tasks/search
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskSearchRequest {
+    @Size(max = 200, message = "Search query cannot exceed 200 characters")
+    private String q;
+    private String cursor;
+    @Positive(message = "Limit must be greater than zero")
+    private Integer limit;
+}
@@ -0,0 +1,21 @@
+package com.taskmanager.task_manager_api.model.dto;
+
+import com.taskmanager.task_manager_api.model.Enum.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Task counts per status, with every status present
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskStatsResponse {
+    private Map<TaskStatus, Long> counts;
+    private long total;
+}
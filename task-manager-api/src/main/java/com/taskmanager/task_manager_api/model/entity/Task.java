@@ -7,20 +7,30 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 @Builder
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_task_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_task_title_id", columnList = "title, id"),
+        @Index(name = "idx_task_status_title_id", columnList = "status, title, id"),
+        @Index(name = "idx_task_status_created_at_id", columnList = "status, created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Task {
 
+    // Generated in the application at persist time so inserts can be JDBC-batched
+    // Time-ordered (UUIDv7) so new rows append to the right edge of the primary key index
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @UuidGenerator(algorithm = UuidV7Generator.class)
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
@@ -44,6 +54,12 @@ public class Task {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // Optimistic concurrency token; the default lets the column be added to existing rows
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @PrePersist
     protected void onCreate() {
         if (status == null) {
@@ -0,0 +1,42 @@
+package com.taskmanager.task_manager_api.model.entity;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.uuid.UuidValueGenerator;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered UUID version 7 ids (RFC 9562)
+ * 48-bit Unix millisecond timestamp, then a 12-bit counter in rand_a, then 62 random bits.
+ * The counter makes ids strictly increasing within this JVM even when many are generated in the same
+ * millisecond; if it overflows or the clock steps back, the timestamp is advanced instead of reused.
+ */
+public class UuidV7Generator implements UuidValueGenerator {
+
+    private static final int COUNTER_BITS = 12;
+
+    // Last issued (timestamp << COUNTER_BITS | counter), shared by every generator instance
+    private static final AtomicLong LAST = new AtomicLong();
+
+    @Override
+    public UUID generateUuid(SharedSessionContractImplementor session) {
+        return next();
+    }
+
+    /**
+     * Next id, strictly greater than every id previously issued by this JVM
+     */
+    public static UUID next() {
+        var now = System.currentTimeMillis() << COUNTER_BITS;
+        var tick = LAST.updateAndGet(last -> Math.max(last + 1, now));
+
+        var timestamp = tick >>> COUNTER_BITS;
+        var counter = tick & ((1L << COUNTER_BITS) - 1);
+        var mostSigBits = (timestamp << 16) | 0x7000L | counter;
+        var leastSigBits = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
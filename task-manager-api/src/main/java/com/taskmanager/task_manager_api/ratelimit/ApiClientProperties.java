@@ -0,0 +1,33 @@
+package com.taskmanager.task_manager_api.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Set;
+
+/**
+ * API clients known to the service, bound from task.clients.*
+ * A request is attributed to an API key only when it sends one of the issued keys; any other header value
+ * is ignored, so a client cannot make up keys to get a fresh rate limit bucket or idempotency scope.
+ *
+ * @param apiKeyHeader header clients send their API key in
+ * @param apiKeys      keys issued to clients
+ */
+@ConfigurationProperties("task.clients")
+public record ApiClientProperties(
+        @DefaultValue("X-API-Key") String apiKeyHeader,
+        Set<String> apiKeys) {
+
+    public ApiClientProperties {
+        apiKeys = apiKeys == null ? Set.of() : Set.copyOf(apiKeys);
+    }
+
+    /**
+     * The issued API key the request carries, or null when it sends none or an unknown one
+     */
+    public String validatedApiKey(HttpServletRequest request) {
+        var apiKey = request.getHeader(apiKeyHeader);
+        return apiKey != null && apiKeys.contains(apiKey) ? apiKey : null;
+    }
+}
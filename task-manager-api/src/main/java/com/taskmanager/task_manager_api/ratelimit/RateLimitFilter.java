@@ -0,0 +1,104 @@
+package com.taskmanager.task_manager_api.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.task_manager_api.model.dto.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-client rate limiting in front of TaskController
+ * Clients are identified by a validated API key, or by remote address when they send none or an unknown
+ * one, so rotating made-up keys never earns a fresh bucket. Each call
+ * is charged its endpoint group's cost; a client out of tokens gets 429 with Retry-After and never
+ * reaches the connection pool. Admitted requests pay a cache lookup and a CAS.
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final TokenBucketRateLimiter limiter;
+    private final RateLimitProperties properties;
+    private final ApiClientProperties clients;
+    private final ObjectMapper objectMapper;
+    private final Map<TaskEndpoint, Counter> allowed = new EnumMap<>(TaskEndpoint.class);
+    private final Map<TaskEndpoint, Counter> rejected = new EnumMap<>(TaskEndpoint.class);
+
+    public RateLimitFilter(TokenBucketRateLimiter limiter, RateLimitProperties properties, ApiClientProperties clients,
+                           ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.properties = properties;
+        this.clients = clients;
+        this.objectMapper = objectMapper;
+        for (var endpoint : TaskEndpoint.values()) {
+            allowed.put(endpoint, counter(meterRegistry, endpoint, "allowed"));
+            rejected.put(endpoint, counter(meterRegistry, endpoint, "rejected"));
+        }
+        Gauge.builder("task.rate.limit.clients", limiter, TokenBucketRateLimiter::trackedClients)
+                .description("Clients currently holding a rate limit bucket")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        var endpoint = TaskEndpoint.of(request);
+        if (endpoint == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        var waitNanos = limiter.tryAcquire(clientKey(request), properties.cost(endpoint));
+        if (waitNanos == 0) {
+            allowed.get(endpoint).increment();
+            chain.doFilter(request, response);
+            return;
+        }
+
+        rejected.get(endpoint).increment();
+        reject(request, response, waitNanos);
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        var apiKey = clients.validatedApiKey(request);
+        return apiKey != null ? "key:" + apiKey : "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitNanos) throws IOException {
+        var retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        log.warn("Rate limit exceeded for {} {} from {}", request.getMethod(), request.getRequestURI(),
+                 request.getRemoteAddr());
+
+        var errorResponse = ErrorResponse.builder()
+                .message("Rate limit exceeded, retry after " + retryAfterSeconds + " seconds")
+                .error("Too Many Requests")
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .build();
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, TaskEndpoint endpoint, String outcome) {
+        return Counter.builder("task.rate.limit.requests")
+                .description("Requests checked by the per-client rate limiter")
+                .tag("endpoint", endpoint.name())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
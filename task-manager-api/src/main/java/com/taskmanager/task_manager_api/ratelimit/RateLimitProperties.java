@@ -0,0 +1,59 @@
+package com.taskmanager.task_manager_api.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Per-client rate limit settings, bound from task.rate-limit.*
+ *
+ * @param tokensPerSecond sustained rate each client earns tokens at
+ * @param capacity        bucket size, i.e. the burst a client may spend at once
+ * @param maxClients      buckets kept in memory; the least recently used go first
+ * @param idleExpiry      buckets untouched this long are dropped (a full bucket carries no state)
+ * @param costs           tokens charged per call to each endpoint group, overriding the defaults
+ *                        (list-style reads 5, export 50, writes 2, bulk 20, others 1; capped at capacity)
+ */
+@ConfigurationProperties("task.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("50") double tokensPerSecond,
+        @DefaultValue("100") int capacity,
+        @DefaultValue("100000") long maxClients,
+        @DefaultValue("PT10M") Duration idleExpiry,
+        Map<TaskEndpoint, Integer> costs) {
+
+    private static final Map<TaskEndpoint, Integer> DEFAULT_COSTS = Map.of(
+            TaskEndpoint.LIST, 5,
+            TaskEndpoint.SEARCH, 5,
+            TaskEndpoint.CHANGES, 5,
+            TaskEndpoint.EXPORT, 50,
+            TaskEndpoint.WRITE, 2,
+            TaskEndpoint.BULK, 20);
+
+    public RateLimitProperties {
+        if (tokensPerSecond <= 0 || capacity < 1) {
+            throw new IllegalArgumentException("task.rate-limit needs a positive tokens-per-second and capacity");
+        }
+        // Defaults are capped at the capacity so a small bucket still admits every endpoint
+        var merged = new EnumMap<TaskEndpoint, Integer>(TaskEndpoint.class);
+        for (var endpoint : TaskEndpoint.values()) {
+            merged.put(endpoint, Math.min(DEFAULT_COSTS.getOrDefault(endpoint, 1), capacity));
+        }
+        if (costs != null) {
+            costs.forEach((endpoint, cost) -> {
+                if (cost < 0 || cost > capacity) {
+                    throw new IllegalArgumentException("task.rate-limit.costs." + endpoint + " must be between 0 and the capacity");
+                }
+            });
+            merged.putAll(costs);
+        }
+        costs = merged;
+    }
+
+    public int cost(TaskEndpoint endpoint) {
+        return costs.get(endpoint);
+    }
+}
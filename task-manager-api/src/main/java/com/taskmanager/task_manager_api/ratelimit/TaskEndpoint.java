@@ -0,0 +1,50 @@
+package com.taskmanager.task_manager_api.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * TaskController routes grouped by how much database work a call costs
+ */
+public enum TaskEndpoint {
+    READ,       // GET /api/tasks/{id}, usually a cache hit
+    LIST,       // GET /api/tasks
+    SEARCH,     // GET /api/tasks/search
+    CHANGES,    // GET /api/tasks/changes
+    EXPORT,     // GET /api/tasks/export
+    STATS,      // GET /api/tasks/stats, served from memory
+    EVENTS,     // GET /api/tasks/events, charged once per connection
+    WRITE,      // POST, PUT, PATCH and DELETE of a single task
+    BULK;       // POST /api/tasks/bulk and PATCH /api/tasks/status
+
+    private static final String BASE = "/api/tasks";
+
+    /**
+     * Classify a request under /api/tasks; null for anything else
+     */
+    public static TaskEndpoint of(HttpServletRequest request) {
+        var path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!path.startsWith(BASE)) {
+            return null;
+        }
+        var rest = path.substring(BASE.length());
+        if (!rest.isEmpty() && rest.charAt(0) != '/') {
+            return null;
+        }
+        if (rest.endsWith("/")) {
+            rest = rest.substring(0, rest.length() - 1);
+        }
+
+        if (!"GET".equals(request.getMethod()) && !"HEAD".equals(request.getMethod())) {
+            return rest.equals("/bulk") || rest.equals("/status") ? BULK : WRITE;
+        }
+        return switch (rest) {
+            case "" -> LIST;
+            case "/search" -> SEARCH;
+            case "/changes" -> CHANGES;
+            case "/export" -> EXPORT;
+            case "/stats" -> STATS;
+            case "/events" -> EVENTS;
+            default -> READ;
+        };
+    }
+}
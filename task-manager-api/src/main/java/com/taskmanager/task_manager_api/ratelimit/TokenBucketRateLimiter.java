@@ -0,0 +1,67 @@
+package com.taskmanager.task_manager_api.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token buckets, one per client
+ * Each bucket is a single AtomicLong holding its "theoretical arrival time" (the generic cell rate
+ * algorithm): the instant the bucket would be full again. Taking tokens pushes that instant forward by
+ * cost / rate, and a request is admitted while it stays within capacity / rate of now. That is exactly a
+ * token bucket, but refill needs no timer and an admission is one read plus one CAS.
+ */
+public class TokenBucketRateLimiter {
+
+    private final Cache<String, AtomicLong> buckets;
+    private final long nanosPerToken;
+    private final long burstNanos;
+    private final LongSupplier nanoClock;
+
+    public TokenBucketRateLimiter(RateLimitProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    /**
+     * Limiter reading time from the given nanosecond clock, so tests can drive refill
+     */
+    public TokenBucketRateLimiter(RateLimitProperties properties, LongSupplier nanoClock) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.maxClients())
+                .expireAfterAccess(properties.idleExpiry())
+                .build();
+        this.nanosPerToken = Math.round(1e9 / properties.tokensPerSecond());
+        this.burstNanos = nanosPerToken * properties.capacity();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Take {@code cost} tokens from the client's bucket if it holds that many
+     * Returns 0 when admitted, otherwise the nanoseconds until enough tokens will be available
+     */
+    public long tryAcquire(String client, int cost) {
+        var now = nanoClock.getAsLong();
+        var bucket = buckets.get(client, key -> new AtomicLong(now));
+        var increment = nanosPerToken * cost;
+        while (true) {
+            var full = bucket.get();
+            var next = Math.max(full, now) + increment;
+            var wait = next - burstNanos - now;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(full, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Number of clients currently holding a bucket
+     */
+    public long trackedClients() {
+        return buckets.estimatedSize();
+    }
+}
@@ -0,0 +1,15 @@
+package com.taskmanager.task_manager_api.repository;
+
+import com.taskmanager.task_manager_api.model.dto.TaskResponse;
+
+import java.util.UUID;
+
+/**
+ * One row of a delta sync: the current state of a changed task, or a tombstone when {@code task} is null
+ */
+public record TaskChange(UUID id, long changeTxid, TaskResponse task) {
+
+    public boolean isDeletion() {
+        return task == null;
+    }
+}
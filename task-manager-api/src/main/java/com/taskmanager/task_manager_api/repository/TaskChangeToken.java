@@ -0,0 +1,60 @@
+package com.taskmanager.task_manager_api.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Delta sync position, encoded as an opaque URL-safe string
+ * {@code since} is a transaction-id watermark: every change made by a transaction below it has already been
+ * delivered. A token handed out mid-sync also carries the (change_txid, id) keyset of the last row returned
+ * and the watermark the whole sync will finish at.
+ */
+public record TaskChangeToken(long since, long until, long afterTxid, UUID afterId) {
+
+    private static final String PREFIX = "changes|";
+    private static final UUID START = new UUID(0, 0);
+
+    /**
+     * Start of a sync over every change at or after the given watermark
+     */
+    public static TaskChangeToken from(long since) {
+        return new TaskChangeToken(since, 0, since, START);
+    }
+
+    public boolean isContinuation() {
+        return until != 0;
+    }
+
+    public TaskChangeToken continueAfter(long until, long afterTxid, UUID afterId) {
+        return new TaskChangeToken(since, until, afterTxid, afterId);
+    }
+
+    public String encode() {
+        var raw = PREFIX + since + "|" + until + "|" + afterTxid + "|" + afterId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskChangeToken decode(String value) {
+        TaskChangeToken token;
+        try {
+            var raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            var parts = raw.startsWith(PREFIX) ? raw.substring(PREFIX.length()).split("\\|", -1) : new String[0];
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Invalid sync token: " + value);
+            }
+            token = new TaskChangeToken(
+                    Long.parseLong(parts[0]),
+                    Long.parseLong(parts[1]),
+                    Long.parseLong(parts[2]),
+                    UUID.fromString(parts[3]));
+        } catch (IllegalArgumentException e) {
+            // Malformed base64, numbers and UUIDs all surface as IllegalArgumentException
+            throw new IllegalArgumentException("Invalid sync token: " + value, e);
+        }
+        if (token.since() < 0 || token.until() < 0 || token.afterTxid() < token.since()) {
+            throw new IllegalArgumentException("Invalid sync token: " + value);
+        }
+        return token;
+    }
+}
@@ -0,0 +1,48 @@
+package com.taskmanager.task_manager_api.repository;
+
+import com.taskmanager.task_manager_api.model.Enum.TaskSort;
+import com.taskmanager.task_manager_api.model.Enum.TaskStatus;
+import com.taskmanager.task_manager_api.model.dto.TaskResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position of the last task on a page for a given sort
+ * Encoded as an opaque URL-safe string so clients never depend on its layout
+ */
+public record TaskCursor(TaskSort sort, TaskStatus status, String title, LocalDateTime createdAt, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static TaskCursor of(TaskSort sort, TaskResponse task) {
+        return new TaskCursor(sort, task.getStatus(), task.getTitle(), task.getCreatedAt(), task.getId());
+    }
+
+    public String encode() {
+        // Title goes last because it is the only field that may contain the separator
+        var raw = String.join(SEPARATOR, sort.name(), status.name(), createdAt.toString(), id.toString(), title);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String value) {
+        try {
+            var raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            var parts = raw.split("\\|", 5);
+            if (parts.length != 5) {
+                throw new IllegalArgumentException("Invalid cursor: " + value);
+            }
+            return new TaskCursor(
+                    TaskSort.valueOf(parts[0]),
+                    TaskStatus.valueOf(parts[1]),
+                    parts[4],
+                    LocalDateTime.parse(parts[2]),
+                    UUID.fromString(parts[3]));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + value, e);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.taskmanager.task_manager_api.repository;
+
+import com.taskmanager.task_manager_api.model.Enum.TaskSort;
+import com.taskmanager.task_manager_api.model.Enum.TaskStatus;
+
+/**
+ * Filters, ordering and keyset position for one page of tasks
+ * Null status, titlePrefix or after means no restriction
+ */
+public record TaskPageQuery(TaskStatus status, String titlePrefix, TaskSort sort, TaskCursor after, int limit) {
+}
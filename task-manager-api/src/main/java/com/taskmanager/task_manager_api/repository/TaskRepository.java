@@ -1,9 +1,68 @@
 package com.taskmanager.task_manager_api.repository;
 
+import com.taskmanager.task_manager_api.model.dto.TaskResponse;
 import com.taskmanager.task_manager_api.model.entity.Task;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import com.taskmanager.task_manager_api.model.Enum.TaskStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface TaskRepository extends JpaRepository<Task, UUID> {
+public interface TaskRepository extends JpaRepository<Task, UUID>, TaskRepositoryCustom {
+
+    /**
+     * Fetch a single task projected straight into the response DTO
+     * Nothing enters the persistence context, so there is no hydration or dirty-checking snapshot
+     */
+    @Query("""
+            select new com.taskmanager.task_manager_api.model.dto.TaskResponse(
+                t.id, t.title, t.description, t.status, t.createdAt, t.updatedAt, t.version)
+            from Task t
+            where t.id = :id
+            """)
+    Optional<TaskResponse> findResponseById(@Param("id") UUID id);
+
+    /**
+     * Stream every task in (createdAt, id) order through a server-side cursor, projected into the response DTO
+     * Must be consumed inside a transaction and closed afterwards
+     */
+    @Query("""
+            select new com.taskmanager.task_manager_api.model.dto.TaskResponse(
+                t.id, t.title, t.description, t.status, t.createdAt, t.updatedAt, t.version)
+            from Task t
+            order by t.createdAt, t.id
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<TaskResponse> streamAllForExport();
+
+    /**
+     * Set-based status change for every task currently in fromStatus
+     * Rows already in the target status are left alone, so fromStatus == status touches nothing
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Task t
+            set t.status = :status, t.updatedAt = :updatedAt, t.version = t.version + 1
+            where t.status = :fromStatus and t.status <> :status
+            """)
+    int updateStatusByStatus(@Param("fromStatus") TaskStatus fromStatus,
+                             @Param("status") TaskStatus status,
+                             @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Number of tasks per status, one row for each status that has tasks
+     */
+    @Query("select t.status as status, count(t) as count from Task t group by t.status")
+    List<TaskStatusCount> countGroupByStatus();
 }
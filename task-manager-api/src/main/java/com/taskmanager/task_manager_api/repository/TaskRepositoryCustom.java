@@ -0,0 +1,72 @@
+package com.taskmanager.task_manager_api.repository;
+
+import com.taskmanager.task_manager_api.model.Enum.TaskStatus;
+import com.taskmanager.task_manager_api.model.dto.TaskResponse;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Task queries that are built dynamically and cannot be expressed as derived queries
+ */
+public interface TaskRepositoryCustom {
+
+    /**
+     * Filtered, sorted page of tasks strictly after the query's keyset position
+     * Rows are projected into TaskResponse without loading Task entities
+     */
+    List<TaskResponse> findPage(TaskPageQuery query);
+
+    /**
+     * Tasks matching a free-text query over title and description, best match first
+     * Ranked by the full-text index on PostgreSQL, by a case-insensitive substring match elsewhere
+     */
+    List<TaskResponse> search(String query, int offset, int limit);
+
+    /**
+     * Update a task and return the new row in the same statement (UPDATE ... RETURNING)
+     * together with the status it had before the update.
+     * Empty when no task has the given id or its version differs from the expected one
+     */
+    Optional<TaskUpdateResult> updateReturning(UUID id, TaskUpdate update);
+
+    /**
+     * Set-based status change for the given ids, skipping tasks already in the target status
+     * Returns how many tasks moved out of each previous status
+     */
+    Map<TaskStatus, Integer> updateStatusByIdIn(Collection<UUID> ids, TaskStatus status, LocalDateTime updatedAt);
+
+    /**
+     * Delete a task in a single statement without loading it first
+     * Returns the status the task had, empty when the id does not exist
+     */
+    Optional<TaskStatus> deleteReturningStatus(UUID id);
+
+    /**
+     * Transaction-id watermark below which every transaction has finished
+     * Changes made by transactions still running when it is taken carry a txid at or above it
+     */
+    long currentChangeWatermark();
+
+    /**
+     * Tasks written and, when requested, tasks deleted by transactions at or after the token's position,
+     * in (change_txid, id) order strictly after its keyset
+     */
+    List<TaskChange> findChanges(TaskChangeToken after, boolean includeDeletions, int limit);
+
+    /**
+     * Highest change_txid of any purged tombstone; sync tokens at or below it may have missed a deletion
+     */
+    long syncHorizon();
+
+    /**
+     * Purge tombstones older than the retention, measured on the database clock, and raise the sync horizon past them
+     * Returns the number of tombstones purged
+     */
+    int purgeTombstones(Duration retention);
+}
@@ -0,0 +1,396 @@
+package com.taskmanager.task_manager_api.repository;
+
+import com.taskmanager.task_manager_api.model.Enum.TaskSort;
+import com.taskmanager.task_manager_api.model.Enum.TaskStatus;
+import com.taskmanager.task_manager_api.model.dto.TaskResponse;
+import com.taskmanager.task_manager_api.model.entity.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Criteria-based keyset queries for the task list and single-statement writes
+ * Each ordering is served by a matching composite index on Task
+ * List pages are projected straight into TaskResponse, so no entities are hydrated or snapshotted
+ */
+@RequiredArgsConstructor
+class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    // The locked "previous" row carries the status the task had right before this update
+    private static final String UPDATE_RETURNING_SQL = """
+            with previous as (
+                select id, status from task where id = :id for update
+            )
+            update task t
+            set title = coalesce(cast(:title as varchar), t.title),
+                description = coalesce(cast(:description as varchar), t.description),
+                status = coalesce(cast(:status as varchar), t.status),
+                updated_at = :updatedAt,
+                version = t.version + 1
+            from previous
+            where t.id = previous.id
+              and (cast(:expectedVersion as bigint) is null or t.version = cast(:expectedVersion as bigint))
+            returning t.id, t.title, t.description, t.status, t.created_at, t.updated_at, t.version,
+                      previous.status as previous_status
+            """;
+
+    private static final String UPDATE_STATUS_BY_ID_IN_SQL = """
+            with moved as (
+                update task t
+                set status = :status, updated_at = :updatedAt, version = t.version + 1
+                from (select id, status from task where id in (:ids) and status <> :status for update) previous
+                where t.id = previous.id
+                returning previous.status as previous_status
+            )
+            select previous_status, count(*) as moved from moved group by previous_status
+            """;
+
+    private static final String DELETE_RETURNING_SQL = "delete from task where id = :id returning status";
+
+    // websearch_to_tsquery accepts user input as typed (quotes, "or", -exclusions) and never raises a syntax error
+    private static final String SEARCH_SQL = """
+            select t.id, t.title, t.description, t.status, t.created_at, t.updated_at, t.version
+            from task t, websearch_to_tsquery('english', :query) q
+            where t.search_vector @@ q
+            order by ts_rank(t.search_vector, q) desc, t.id
+            offset :offset
+            limit :limit
+            """;
+
+    // The xmin of the current snapshot: no transaction below it is still running
+    private static final String CHANGE_WATERMARK_SQL =
+            "select cast(cast(pg_snapshot_xmin(pg_current_snapshot()) as text) as bigint) as watermark";
+
+    // Live rows and tombstones share one (change_txid, id) keyset; each branch is served by its own index
+    private static final String FIND_CHANGES_SQL = """
+            select c.id, c.change_txid, c.title, c.description, c.status, c.created_at, c.updated_at, c.version
+            from (
+                select t.id, t.change_txid, t.title, t.description, t.status, t.created_at, t.updated_at, t.version
+                from task t
+                where (t.change_txid, t.id) > (:afterTxid, :afterId)
+                union all
+                select d.task_id, d.change_txid, cast(null as varchar), cast(null as varchar), cast(null as varchar),
+                       cast(null as timestamp), cast(null as timestamp), cast(null as bigint)
+                from task_tombstone d
+                where :includeDeletions and (d.change_txid, d.task_id) > (:afterTxid, :afterId)
+            ) c
+            order by c.change_txid, c.id
+            limit :limit
+            """;
+
+    private static final String SYNC_HORIZON_SQL = "select horizon from task_sync_horizon where id = 1";
+
+    private static final String PURGE_TOMBSTONES_SQL = """
+            with purged as (
+                delete from task_tombstone
+                where deleted_at < localtimestamp - make_interval(secs => :retentionSeconds)
+                returning change_txid
+            ), raised as (
+                update task_sync_horizon
+                set horizon = greatest(horizon, (select max(change_txid) from purged))
+                where id = 1 and exists (select 1 from purged)
+            )
+            select count(*) as purged from purged
+            """;
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<TaskResponse> findPage(TaskPageQuery query) {
+        if (query.sort() == TaskSort.STATUS) {
+            return findPageInStatusOrder(query);
+        }
+        return select(query.status(), query.titlePrefix(), query.sort(), query.after(), query.limit());
+    }
+
+    @Override
+    public List<TaskResponse> search(String query, int offset, int limit) {
+        if (isPostgres()) {
+            return searchFullText(query, offset, limit);
+        }
+        return searchSubstring(query, offset, limit);
+    }
+
+    @Override
+    @Transactional
+    @SuppressWarnings("unchecked")
+    public Optional<TaskUpdateResult> updateReturning(UUID id, TaskUpdate update) {
+        // Same contract as @Modifying(flushAutomatically, clearAutomatically):
+        // no pending writes are lost and no stale managed copy shadows the returned row
+        flushAndClear();
+
+        var status = update.status() != null ? update.status().name() : null;
+        List<Object[]> rows = entityManager.createNativeQuery(UPDATE_RETURNING_SQL)
+                .unwrap(NativeQuery.class)
+                .addEntity("t", Task.class)
+                .addScalar("previous_status", String.class)
+                .setParameter("id", id)
+                .setParameter("title", update.title())
+                .setParameter("description", update.description())
+                .setParameter("status", status)
+                .setParameter("updatedAt", LocalDateTime.now())
+                .setParameter("expectedVersion", update.expectedVersion())
+                .getResultList();
+
+        return rows.stream()
+                .findFirst()
+                .map(row -> new TaskUpdateResult((Task) row[0], TaskStatus.valueOf((String) row[1])));
+    }
+
+    @Override
+    @Transactional
+    @SuppressWarnings("unchecked")
+    public Map<TaskStatus, Integer> updateStatusByIdIn(Collection<UUID> ids, TaskStatus status, LocalDateTime updatedAt) {
+        flushAndClear();
+
+        List<Object[]> rows = entityManager.createNativeQuery(UPDATE_STATUS_BY_ID_IN_SQL)
+                .unwrap(NativeQuery.class)
+                .addScalar("previous_status", String.class)
+                .addScalar("moved", Long.class)
+                .setParameter("ids", ids)
+                .setParameter("status", status.name())
+                .setParameter("updatedAt", updatedAt)
+                .getResultList();
+
+        var moved = new EnumMap<TaskStatus, Integer>(TaskStatus.class);
+        for (var row : rows) {
+            moved.put(TaskStatus.valueOf((String) row[0]), ((Long) row[1]).intValue());
+        }
+        return moved;
+    }
+
+    @Override
+    @Transactional
+    @SuppressWarnings("unchecked")
+    public Optional<TaskStatus> deleteReturningStatus(UUID id) {
+        flushAndClear();
+
+        List<String> rows = entityManager.createNativeQuery(DELETE_RETURNING_SQL)
+                .unwrap(NativeQuery.class)
+                .addScalar("status", String.class)
+                .setParameter("id", id)
+                .getResultList();
+
+        return rows.stream().findFirst().map(TaskStatus::valueOf);
+    }
+
+    @Override
+    public long currentChangeWatermark() {
+        return ((Number) entityManager.createNativeQuery(CHANGE_WATERMARK_SQL).getSingleResult()).longValue();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TaskChange> findChanges(TaskChangeToken after, boolean includeDeletions, int limit) {
+        List<Object[]> rows = entityManager.createNativeQuery(FIND_CHANGES_SQL)
+                .unwrap(NativeQuery.class)
+                .addScalar("id", UUID.class)
+                .addScalar("change_txid", Long.class)
+                .addScalar("title", String.class)
+                .addScalar("description", String.class)
+                .addScalar("status", String.class)
+                .addScalar("created_at", LocalDateTime.class)
+                .addScalar("updated_at", LocalDateTime.class)
+                .addScalar("version", Long.class)
+                .setParameter("afterTxid", after.afterTxid())
+                .setParameter("afterId", after.afterId())
+                .setParameter("includeDeletions", includeDeletions)
+                .setParameter("limit", limit)
+                .getResultList();
+
+        return rows.stream()
+                .map(row -> {
+                    var id = (UUID) row[0];
+                    var task = row[4] == null ? null : new TaskResponse(
+                            id,
+                            (String) row[2],
+                            (String) row[3],
+                            TaskStatus.valueOf((String) row[4]),
+                            (LocalDateTime) row[5],
+                            (LocalDateTime) row[6],
+                            (Long) row[7]);
+                    return new TaskChange(id, (Long) row[1], task);
+                })
+                .toList();
+    }
+
+    @Override
+    public long syncHorizon() {
+        return ((Number) entityManager.createNativeQuery(SYNC_HORIZON_SQL).getSingleResult()).longValue();
+    }
+
+    @Override
+    @Transactional
+    public int purgeTombstones(Duration retention) {
+        var purged = (Number) entityManager.createNativeQuery(PURGE_TOMBSTONES_SQL)
+                .setParameter("retentionSeconds", (double) retention.toSeconds())
+                .getSingleResult();
+        return purged.intValue();
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<TaskResponse> searchFullText(String query, int offset, int limit) {
+        List<Object[]> rows = entityManager.createNativeQuery(SEARCH_SQL)
+                .unwrap(NativeQuery.class)
+                .addScalar("id", UUID.class)
+                .addScalar("title", String.class)
+                .addScalar("description", String.class)
+                .addScalar("status", String.class)
+                .addScalar("created_at", LocalDateTime.class)
+                .addScalar("updated_at", LocalDateTime.class)
+                .addScalar("version", Long.class)
+                .setParameter("query", query)
+                .setParameter("offset", offset)
+                .setParameter("limit", limit)
+                .getResultList();
+
+        return rows.stream()
+                .map(row -> new TaskResponse(
+                        (UUID) row[0],
+                        (String) row[1],
+                        (String) row[2],
+                        TaskStatus.valueOf((String) row[3]),
+                        (LocalDateTime) row[4],
+                        (LocalDateTime) row[5],
+                        (Long) row[6]))
+                .toList();
+    }
+
+    /**
+     * Portable fallback for databases without the search_vector column (e.g. H2):
+     * title matches first, then description matches, newest first within each group
+     */
+    private List<TaskResponse> searchSubstring(String query, int offset, int limit) {
+        var cb = entityManager.getCriteriaBuilder();
+        var cq = cb.createQuery(TaskResponse.class);
+        var task = cq.from(Task.class);
+
+        var pattern = "%" + escapeLike(query.toLowerCase(Locale.ROOT)) + "%";
+        var titleMatch = cb.like(cb.lower(task.<String>get("title")), pattern, LIKE_ESCAPE);
+        var descriptionMatch = cb.like(cb.lower(task.<String>get("description")), pattern, LIKE_ESCAPE);
+        var rank = cb.<Integer>selectCase().when(titleMatch, 0).otherwise(1);
+
+        cq.select(projection(cb, task))
+                .where(cb.or(titleMatch, descriptionMatch))
+                .orderBy(cb.asc(rank), cb.desc(task.get("createdAt")), cb.asc(task.get("id")));
+
+        return entityManager.createQuery(cq)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private boolean isPostgres() {
+        return entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect() instanceof PostgreSQLDialect;
+    }
+
+    /**
+     * Status order (TODO, IN_PROGRESS, DONE) is not the alphabetical order of the stored names,
+     * so walk the statuses one by one and page each one by (title, id) on the (status, title, id) index
+     */
+    private List<TaskResponse> findPageInStatusOrder(TaskPageQuery query) {
+        var statuses = query.status() != null ? List.of(query.status()) : List.of(TaskStatus.values());
+        var after = query.after();
+        var tasks = new ArrayList<TaskResponse>(query.limit());
+
+        for (var status : statuses) {
+            if (after != null && status.ordinal() < after.status().ordinal()) {
+                continue;
+            }
+            var keyset = after != null && status == after.status() ? after : null;
+            tasks.addAll(select(status, query.titlePrefix(), TaskSort.TITLE, keyset, query.limit() - tasks.size()));
+            if (tasks.size() >= query.limit()) {
+                break;
+            }
+        }
+        return tasks;
+    }
+
+    private List<TaskResponse> select(TaskStatus status, String titlePrefix, TaskSort sort, TaskCursor after, int limit) {
+        var cb = entityManager.getCriteriaBuilder();
+        var cq = cb.createQuery(TaskResponse.class);
+        var task = cq.from(Task.class);
+
+        var predicates = new ArrayList<Predicate>();
+        if (status != null) {
+            predicates.add(cb.equal(task.get("status"), status));
+        }
+        if (titlePrefix != null) {
+            predicates.add(cb.like(task.get("title"), escapeLike(titlePrefix) + "%", LIKE_ESCAPE));
+        }
+        if (after != null) {
+            predicates.add(after(cb, task, sort, after));
+        }
+
+        var sortKey = sort == TaskSort.TITLE ? "title" : "createdAt";
+        cq.select(projection(cb, task))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(task.get(sortKey)), cb.asc(task.get("id")));
+
+        return entityManager.createQuery(cq)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private static CompoundSelection<TaskResponse> projection(CriteriaBuilder cb, Root<Task> task) {
+        return cb.construct(TaskResponse.class,
+                task.get("id"),
+                task.get("title"),
+                task.get("description"),
+                task.get("status"),
+                task.get("createdAt"),
+                task.get("updatedAt"),
+                task.get("version"));
+    }
+
+    /**
+     * (sortKey, id) > (cursor sortKey, cursor id)
+     */
+    private Predicate after(CriteriaBuilder cb, Root<Task> task, TaskSort sort, TaskCursor cursor) {
+        var id = task.<UUID>get("id");
+        if (sort == TaskSort.TITLE) {
+            var title = task.<String>get("title");
+            return cb.or(
+                    cb.greaterThan(title, cursor.title()),
+                    cb.and(cb.equal(title, cursor.title()), cb.greaterThan(id, cursor.id())));
+        }
+        var createdAt = task.<LocalDateTime>get("createdAt");
+        return cb.or(
+                cb.greaterThan(createdAt, cursor.createdAt()),
+                cb.and(cb.equal(createdAt, cursor.createdAt()), cb.greaterThan(id, cursor.id())));
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
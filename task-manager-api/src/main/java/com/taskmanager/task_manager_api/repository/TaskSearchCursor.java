@@ -0,0 +1,34 @@
+package com.taskmanager.task_manager_api.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in a ranked search result, encoded as an opaque URL-safe string
+ * Ranked results have no stable keyset, so the position is the number of rows already returned
+ */
+public record TaskSearchCursor(int offset) {
+
+    private static final String PREFIX = "search|";
+
+    public String encode() {
+        var raw = PREFIX + offset;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskSearchCursor decode(String value) {
+        try {
+            var raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new IllegalArgumentException("Invalid cursor: " + value);
+            }
+            var offset = Integer.parseInt(raw.substring(PREFIX.length()));
+            if (offset < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + value);
+            }
+            return new TaskSearchCursor(offset);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + value, e);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.taskmanager.task_manager_api.repository;
+
+import com.taskmanager.task_manager_api.model.Enum.TaskStatus;
+
+/**
+ * Number of tasks in one status
+ */
+public interface TaskStatusCount {
+
+    TaskStatus getStatus();
+
+    long getCount();
+}
@@ -0,0 +1,10 @@
+package com.taskmanager.task_manager_api.repository;
+
+import com.taskmanager.task_manager_api.model.Enum.TaskStatus;
+
+/**
+ * Column values for a single-row task update
+ * Null fields keep their current value; a null expectedVersion skips the optimistic check
+ */
+public record TaskUpdate(String title, String description, TaskStatus status, Long expectedVersion) {
+}
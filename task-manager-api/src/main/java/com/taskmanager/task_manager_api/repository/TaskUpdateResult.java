@@ -0,0 +1,10 @@
+package com.taskmanager.task_manager_api.repository;
+
+import com.taskmanager.task_manager_api.model.Enum.TaskStatus;
+import com.taskmanager.task_manager_api.model.entity.Task;
+
+/**
+ * Row returned by a single-row task update together with the status it had before the update
+ */
+public record TaskUpdateResult(Task task, TaskStatus previousStatus) {
+}
@@ -1,15 +1,37 @@
 package com.taskmanager.task_manager_api.service;
+import com.taskmanager.task_manager_api.config.CacheConfig;
+import com.taskmanager.task_manager_api.event.TaskChangedEvent;
+import com.taskmanager.task_manager_api.model.Enum.BulkItemStatus;
+import com.taskmanager.task_manager_api.model.Enum.TaskSort;
 import com.taskmanager.task_manager_api.model.Enum.TaskStatus;
 import com.taskmanager.task_manager_api.model.dto.*;
 import com.taskmanager.task_manager_api.model.entity.Task;
 import com.taskmanager.task_manager_api.exceptions.TaskNotFoundException;
+import com.taskmanager.task_manager_api.exceptions.TaskVersionConflictException;
+import com.taskmanager.task_manager_api.repository.TaskCursor;
+import com.taskmanager.task_manager_api.repository.TaskPageQuery;
 import com.taskmanager.task_manager_api.repository.TaskRepository;
+import com.taskmanager.task_manager_api.repository.TaskSearchCursor;
+import com.taskmanager.task_manager_api.repository.TaskUpdate;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * Service layer for Task operations
@@ -20,118 +42,355 @@ import java.util.UUID;
 @Slf4j
 public class TaskService {
 
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 200;
+    static final int MAX_BULK_SIZE = 5_000;
+    // Ranked results are paged by offset, so stop offering further pages past this depth
+    static final int MAX_SEARCH_DEPTH = 1_000;
+    static final int MAX_SEARCH_QUERY_LENGTH = 200;
+    // Matches hibernate.jdbc.batch_size so every flush sends full INSERT batches
+    static final int BULK_FLUSH_SIZE = 50;
+
     private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Create a new task
+     * Transactional like the other writers, so listeners see the change only once it has committed
      */
+    @Transactional
+    @CachePut(cacheNames = CacheConfig.TASKS, key = "#result.id")
     public TaskResponse createTask(CreateTaskRequest request) {
         log.info("Creating new task with title: {}", request.getTitle());
 
-        var taskStatus = request.getStatus() != null ? request.getStatus() : TaskStatus.TODO;
+        var savedTask = taskRepository.save(toEntity(request));
+        log.info("Task created successfully with ID: {}", savedTask.getId());
+        var response = convertToDto(savedTask);
+        publish(TaskChangedEvent.created(response));
 
-        var task = Task.builder()
-                .title(request.getTitle())
-                .description(request.getDescription())
-                .status(taskStatus)
+        return response;
+    }
+
+    /**
+     * Create many tasks in one transaction using batched INSERTs
+     * Invalid items are rejected individually and do not stop the rest of the batch
+     */
+    @Transactional
+    public BulkCreateTaskResponse createTasks(List<CreateTaskRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("At least one task is required");
+        }
+        if (requests.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("Cannot create more than " + MAX_BULK_SIZE + " tasks at once");
+        }
+        log.info("Creating {} tasks in bulk", requests.size());
+
+        var results = new ArrayList<BulkCreateTaskResult>(requests.size());
+        var created = 0;
+
+        for (int index = 0; index < requests.size(); index++) {
+            var request = requests.get(index);
+            var error = validate(request);
+            if (error != null) {
+                results.add(BulkCreateTaskResult.builder()
+                        .index(index)
+                        .status(BulkItemStatus.REJECTED)
+                        .error(error)
+                        .build());
+                continue;
+            }
+
+            var task = taskRepository.save(toEntity(request));
+            publish(TaskChangedEvent.created(convertToDto(task)));
+            results.add(BulkCreateTaskResult.builder()
+                    .index(index)
+                    .status(BulkItemStatus.CREATED)
+                    .id(task.getId())
+                    .build());
+
+            // Flush full batches and drop them from the persistence context to keep memory flat
+            if (++created % BULK_FLUSH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+
+        log.info("Bulk create finished: {} created, {} rejected", created, requests.size() - created);
+
+        return BulkCreateTaskResponse.builder()
+                .created(created)
+                .rejected(requests.size() - created)
+                .results(results)
                 .build();
+    }
 
-        var savedTask = taskRepository.save(task);
-        log.info("Task created successfully with ID: {}", savedTask.getId());
+    /**
+     * Fetch a filtered, sorted page of tasks
+     * Uses keyset pagination so deep pages cost the same as the first one
+     * Rows are projected straight into TaskResponse in a read-only transaction
+     */
+    @Transactional(readOnly = true)
+    public TaskPageResponse getTasks(TaskListRequest request) {
+        var pageSize = resolvePageSize(request.getLimit());
+        var sort = TaskSort.fromValue(request.getSort());
+        var after = request.getCursor() == null || request.getCursor().isBlank()
+                ? null
+                : TaskCursor.decode(request.getCursor());
+        if (after != null && after.sort() != sort) {
+            throw new IllegalArgumentException("Cursor does not match sort: " + sort);
+        }
+        var titlePrefix = request.getQ() == null || request.getQ().isBlank() ? null : request.getQ().strip();
+
+        // Fetch one extra row to find out whether another page exists
+        var tasks = taskRepository.findPage(
+                new TaskPageQuery(request.getStatus(), titlePrefix, sort, after, pageSize + 1));
+
+        var items = tasks.size() > pageSize ? tasks.subList(0, pageSize) : tasks;
+        var next = tasks.size() > pageSize ? TaskCursor.of(sort, items.getLast()).encode() : null;
+
+        return TaskPageResponse.builder()
+                .items(items)
+                .next(next)
+                .build();
+    }
+
+    /**
+     * Full-text search over title and description, best match first
+     * Pages are capped at MAX_SEARCH_DEPTH results in total
+     */
+    @Transactional(readOnly = true)
+    public TaskPageResponse searchTasks(TaskSearchRequest request) {
+        var query = request.getQ() == null ? "" : request.getQ().strip();
+        if (query.isEmpty()) {
+            throw new IllegalArgumentException("Search query cannot be blank");
+        }
+        if (query.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query cannot exceed " + MAX_SEARCH_QUERY_LENGTH + " characters");
+        }
+        var pageSize = resolvePageSize(request.getLimit());
+        var offset = request.getCursor() == null || request.getCursor().isBlank()
+                ? 0
+                : TaskSearchCursor.decode(request.getCursor()).offset();
+        if (offset >= MAX_SEARCH_DEPTH) {
+            throw new IllegalArgumentException("Search results are limited to the first " + MAX_SEARCH_DEPTH + " matches");
+        }
+        pageSize = Math.min(pageSize, MAX_SEARCH_DEPTH - offset);
+
+        // Fetch one extra row to find out whether another page exists
+        var tasks = taskRepository.search(query, offset, pageSize + 1);
+
+        var items = tasks.size() > pageSize ? tasks.subList(0, pageSize) : tasks;
+        var nextOffset = offset + pageSize;
+        var next = tasks.size() > pageSize && nextOffset < MAX_SEARCH_DEPTH
+                ? new TaskSearchCursor(nextOffset).encode()
+                : null;
 
-        return convertToDto(savedTask);
+        return TaskPageResponse.builder()
+                .items(items)
+                .next(next)
+                .build();
     }
 
     /**
-     * Fetch all tasks
+     * Stream every task to the consumer one row at a time
+     * Rows are projected DTOs that never enter the persistence context, so memory stays flat regardless of table size
      */
-    public List<TaskResponse> getAllTasks() {
-        var tasks = taskRepository.findAll();
+    @Transactional(readOnly = true)
+    public long exportTasks(Consumer<TaskResponse> consumer) {
+        long exported = 0;
+
+        try (var tasks = taskRepository.streamAllForExport()) {
+            var iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+                exported++;
+            }
+        }
 
-        return tasks.stream()
-                .map(this::convertToDto)
-                .toList();
+        log.info("Exported {} tasks", exported);
+        return exported;
     }
 
     /**
      * Fetch task by ID
+     * Served from the task cache when present, otherwise projected straight into TaskResponse.
+     * The load runs inside Caffeine's per-key compute, so a concurrent @CachePut or evict waits for it
+     * and lands afterwards instead of being overwritten by a row read before the write committed.
      */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.TASKS, key = "#id", sync = true)
     public TaskResponse getTaskById(UUID id) {
-        return taskRepository.findById(id)
-                .map(task -> {
-                    return convertToDto(task);
-                })
-                .orElseThrow(() -> {
-                    log.warn("Task not found with ID: {}", id);
-                    return new TaskNotFoundException("Task not found with ID: " + id);
-                });
+        return taskRepository.findResponseById(id)
+                .orElseThrow(() -> taskNotFound(id));
     }
 
     /**
      * Update a task
+     * Runs as a single UPDATE ... RETURNING statement; 404 is decided by the affected row.
+     * When expectedVersion is set the update only applies to that version of the task.
      */
-    public TaskResponse updateTask(UUID id, UpdateTaskRequest request) {
-        var task = taskRepository.findById(id)
-                .orElseThrow(() -> {
-                    log.warn("Task not found with ID: {}", id);
-                    return new TaskNotFoundException("Task not found with ID: " + id);
-                });
+    @Transactional
+    @CachePut(cacheNames = CacheConfig.TASKS, key = "#id")
+    public TaskResponse updateTask(UUID id, UpdateTaskRequest request, Long expectedVersion) {
+        var title = request.getTitle() != null && !request.getTitle().isBlank()
+                ? request.getTitle().strip()
+                : null;
+        var description = request.getDescription() != null ? request.getDescription().strip() : null;
 
-        if (request.getTitle() != null && !request.getTitle().isBlank()) {
-            task.setTitle(request.getTitle().strip());
-        }
+        var update = new TaskUpdate(title, description, request.getTaskStatus(), expectedVersion);
+        var result = taskRepository.updateReturning(id, update)
+                .orElseThrow(() -> updateRejected(id, expectedVersion));
+        var updatedTask = convertToDto(result.task());
+        log.info("Task updated successfully: {}", updatedTask.getTitle());
+        publish(TaskChangedEvent.updated(TaskChangedEvent.Type.UPDATED, updatedTask, result.previousStatus()));
 
-        if (request.getDescription() != null) {
-            task.setDescription(request.getDescription().strip());
-        }
+        return updatedTask;
+    }
 
-        if(request.getTaskStatus() != null){
-            task.setStatus(request.getTaskStatus());
+    /**
+     * Change the status of a task
+     * When expectedVersion is set the change only applies to that version of the task
+     */
+    @Transactional
+    @CachePut(cacheNames = CacheConfig.TASKS, key = "#id")
+    public TaskResponse updateTaskStatus(UUID id, UpdateTaskStatusRequest request, Long expectedVersion) {
+        if (request.getStatus() == null) {
+            throw new IllegalArgumentException("Task status cannot be null");
         }
 
-        var updatedTask = taskRepository.save(task);
-        log.info("Task updated successfully: {}", updatedTask.getTitle());
-
-        return convertToDto(updatedTask);
+        var update = new TaskUpdate(null, null, request.getStatus(), expectedVersion);
+        var result = taskRepository.updateReturning(id, update)
+                .orElseThrow(() -> updateRejected(id, expectedVersion));
+        var updatedTask = convertToDto(result.task());
+        publish(TaskChangedEvent.updated(TaskChangedEvent.Type.STATUS_CHANGED, updatedTask, result.previousStatus()));
+        return updatedTask;
     }
 
     /**
-     * Change the status of a task
+     * Move many tasks to a new status with a single UPDATE statement
+     * Returns the number of tasks whose status actually changed
      */
-    public TaskResponse updateTaskStatus(UUID id, UpdateTaskStatusRequest request) {
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASKS, allEntries = true)
+    public BulkUpdateTaskStatusResponse updateTaskStatuses(BulkUpdateTaskStatusRequest request) {
         if (request.getStatus() == null) {
             throw new IllegalArgumentException("Task status cannot be null");
         }
+        var hasIds = request.getIds() != null && !request.getIds().isEmpty();
+        if (hasIds == (request.getFromStatus() != null)) {
+            throw new IllegalArgumentException("Provide either ids or fromStatus");
+        }
+        if (hasIds && request.getIds().size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("Cannot update more than " + MAX_BULK_SIZE + " tasks at once");
+        }
+
+        var now = LocalDateTime.now();
+        Map<TaskStatus, Integer> moved = hasIds
+                ? taskRepository.updateStatusByIdIn(request.getIds(), request.getStatus(), now)
+                : Map.of(request.getFromStatus(),
+                         taskRepository.updateStatusByStatus(request.getFromStatus(), request.getStatus(), now));
+        var updated = 0;
+        for (var entry : moved.entrySet()) {
+            if (entry.getValue() > 0) {
+                publish(TaskChangedEvent.bulkStatusChanged(entry.getKey(), request.getStatus(), entry.getValue()));
+            }
+            updated += entry.getValue();
+        }
 
-        var task = taskRepository.findById(id)
-                .orElseThrow(() -> {
-                    log.warn("Task not found with ID: {}", id);
-                    return new TaskNotFoundException("Task not found with ID: " + id);
-                });
+        log.info("Bulk status update to {} changed {} tasks", request.getStatus(), updated);
 
-        task.setStatus(request.getStatus());
-        var updatedTask = taskRepository.save(task);
-        return convertToDto(updatedTask);
+        return BulkUpdateTaskStatusResponse.builder()
+                .updated(updated)
+                .build();
     }
 
     /**
      * Delete a task
+     * Issues the DELETE directly; 404 is decided by whether a row came back
      */
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TASKS, key = "#id")
     public void deleteTask(UUID id) {
-        var task = taskRepository.findById(id)
-                .orElseThrow(() -> {
-                    log.warn("Task not found with ID: {}", id);
-                    return new TaskNotFoundException("Task not found with ID: " + id);
-                });
+        var previousStatus = taskRepository.deleteReturningStatus(id)
+                .orElseThrow(() -> taskNotFound(id));
+        log.info("Task deleted successfully: {}", id);
+        publish(TaskChangedEvent.deleted(id, previousStatus));
+    }
+
+    /**
+     * Announce a change; listeners run once the surrounding transaction commits
+     */
+    private void publish(TaskChangedEvent event) {
+        eventPublisher.publishEvent(event);
+    }
+
+    /**
+     * Work out why a conditional update matched no row
+     * Only the failure path pays for the extra existence check
+     */
+    private RuntimeException updateRejected(UUID id, Long expectedVersion) {
+        if (expectedVersion != null && taskRepository.existsById(id)) {
+            log.warn("Version conflict for task ID: {} expected version: {}", id, expectedVersion);
+            return new TaskVersionConflictException("Task " + id + " has been modified since version " + expectedVersion);
+        }
+        return taskNotFound(id);
+    }
 
-        taskRepository.delete(task);
-        log.info("Task deleted successfully: {}", task.getTitle());
+    private TaskNotFoundException taskNotFound(UUID id) {
+        log.warn("Task not found with ID: {}", id);
+        return new TaskNotFoundException("Task not found with ID: " + id);
+    }
+
+    /**
+     * Build a new Task entity from a create request, defaulting the status to TODO
+     */
+    private Task toEntity(CreateTaskRequest request) {
+        var taskStatus = request.getStatus() != null ? request.getStatus() : TaskStatus.TODO;
+
+        return Task.builder()
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .status(taskStatus)
+                .build();
+    }
+
+    /**
+     * Validate a single bulk item, returning null when it is valid
+     */
+    private String validate(CreateTaskRequest request) {
+        if (request == null) {
+            return "Task cannot be null";
+        }
+        var violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Apply the default page size and cap it at the maximum
+     */
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be greater than zero");
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
     }
 
     /**
      * Convert Task entity to TaskResponse DTO
+     * Package-private so the JMH benchmarks can measure it directly
      */
-    private TaskResponse convertToDto(Task task) {
+    static TaskResponse convertToDto(Task task) {
         return TaskResponse.builder()
                 .id(task.getId())
                 .title(task.getTitle())
@@ -139,6 +398,7 @@ public class TaskService {
                 .status(task.getStatus())
                 .createdAt(task.getCreatedAt())
                 .updatedAt(task.getUpdatedAt())
+                .version(task.getVersion())
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,143 @@
+package com.taskmanager.task_manager_api.service;
+
+import com.taskmanager.task_manager_api.event.TaskChangedEvent;
+import com.taskmanager.task_manager_api.model.Enum.TaskStatus;
+import com.taskmanager.task_manager_api.model.dto.TaskStatsResponse;
+import com.taskmanager.task_manager_api.repository.TaskRepository;
+import com.taskmanager.task_manager_api.repository.TaskStatusCount;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory task counts per status for the dashboard
+ * Counters move with every committed change published by TaskService, so reading them never touches
+ * the database. A periodic reconcile against a GROUP BY count corrects any drift (e.g. rows changed
+ * outside the API).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskStatsService {
+
+    private final TaskRepository taskRepository;
+
+    private final Map<TaskStatus, LongAdder> counts = initialCounts();
+    // Number of change events applied so far, used to detect changes racing a reconcile
+    private final AtomicLong applied = new AtomicLong();
+    // Changes published in transactions that have not completed yet
+    private final AtomicLong pending = new AtomicLong();
+    // Serializes applying changes with the check-and-correct step of a reconcile
+    private final Lock reconcileLock = new ReentrantLock();
+
+    /**
+     * Current task counts per status and in total
+     */
+    public TaskStatsResponse getStats() {
+        var snapshot = new EnumMap<TaskStatus, Long>(TaskStatus.class);
+        counts.forEach((status, count) -> snapshot.put(status, Math.max(0, count.sum())));
+
+        return TaskStatsResponse.builder()
+                .counts(snapshot)
+                .total(snapshot.values().stream().mapToLong(Long::longValue).sum())
+                .build();
+    }
+
+    /**
+     * Apply a change once its transaction commits, or straight away outside a transaction
+     * The change is counted as pending from publication until it has been applied, since its rows are
+     * visible to a reconcile between the commit and the after-commit callback
+     */
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(event);
+            return;
+        }
+        pending.incrementAndGet();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        apply(event);
+                    }
+                } finally {
+                    pending.decrementAndGet();
+                }
+            }
+        });
+    }
+
+    private void apply(TaskChangedEvent event) {
+        reconcileLock.lock();
+        try {
+            if (event.previousStatus() != null) {
+                counts.get(event.previousStatus()).add(-event.count());
+            }
+            if (event.status() != null) {
+                counts.get(event.status()).add(event.count());
+            }
+            applied.incrementAndGet();
+        } finally {
+            reconcileLock.unlock();
+        }
+    }
+
+    /**
+     * Bring the counters in line with the database, once at startup and then periodically
+     * Skipped when a change is applied while the counts are being read, or is still waiting on its
+     * transaction, since the result could not tell whether that change is already included; the next
+     * run catches up
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${task.stats.reconcile-interval:PT5M}",
+               fixedDelayString = "${task.stats.reconcile-interval:PT5M}")
+    public void reconcile() {
+        var before = applied.get();
+        var actual = taskRepository.countGroupByStatus().stream()
+                .collect(Collectors.toMap(TaskStatusCount::getStatus, TaskStatusCount::getCount));
+
+        // Holding the lock keeps apply() out until the corrections are in, so none can be lost to a late change
+        reconcileLock.lock();
+        try {
+            // pending before applied: a change that is no longer pending has already bumped applied
+            if (pending.get() > 0 || applied.get() != before) {
+                log.debug("Task stats reconcile skipped: changes applied or pending while counting");
+                return;
+            }
+
+            counts.forEach((status, count) -> {
+                var expected = actual.getOrDefault(status, 0L);
+                var drift = expected - count.sum();
+                if (drift != 0) {
+                    log.info("Task stats for {} corrected by {}", status, drift);
+                    count.add(drift);
+                }
+            });
+        } finally {
+            reconcileLock.unlock();
+        }
+    }
+
+    private static Map<TaskStatus, LongAdder> initialCounts() {
+        var counts = new EnumMap<TaskStatus, LongAdder>(TaskStatus.class);
+        for (var status : TaskStatus.values()) {
+            counts.put(status, new LongAdder());
+        }
+        return counts;
+    }
+}
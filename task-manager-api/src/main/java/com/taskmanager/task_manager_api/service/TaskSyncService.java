@@ -0,0 +1,123 @@
+package com.taskmanager.task_manager_api.service;
+
+import com.taskmanager.task_manager_api.exceptions.TaskSyncTokenExpiredException;
+import com.taskmanager.task_manager_api.model.dto.TaskChangesRequest;
+import com.taskmanager.task_manager_api.model.dto.TaskChangesResponse;
+import com.taskmanager.task_manager_api.model.dto.TaskResponse;
+import com.taskmanager.task_manager_api.repository.TaskChange;
+import com.taskmanager.task_manager_api.repository.TaskChangeToken;
+import com.taskmanager.task_manager_api.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.UUID;
+
+/**
+ * Delta sync: everything that changed since a client's last sync token, deletions included
+ * Tokens are transaction-id watermarks rather than timestamps, so clock skew between app nodes or a
+ * long-running transaction committing "in the past" can never hide a change. Deletions are kept as
+ * tombstones for the retention window; a token older than the last purged tombstone is rejected and the
+ * client must start over with a full sync.
+ */
+@Service
+@Slf4j
+public class TaskSyncService {
+
+    static final int DEFAULT_PAGE_SIZE = 200;
+    static final int MAX_PAGE_SIZE = 1000;
+
+    private final TaskRepository taskRepository;
+    private final Duration tombstoneRetention;
+
+    public TaskSyncService(TaskRepository taskRepository,
+                           @Value("${task.sync.tombstone-retention:P30D}") Duration tombstoneRetention) {
+        this.taskRepository = taskRepository;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    /**
+     * Next page of changes after the request's token, or of all tasks when no token is given
+     */
+    @Transactional(readOnly = true)
+    public TaskChangesResponse getChanges(TaskChangesRequest request) {
+        var pageSize = resolvePageSize(request.getLimit());
+        var token = request.getSince() == null || request.getSince().isBlank()
+                ? TaskChangeToken.from(0)
+                : TaskChangeToken.decode(request.getSince());
+        var fullSync = token.since() == 0;
+
+        // Taken before reading rows: anything committed after this point is at or above it
+        var until = token.isContinuation() ? token.until() : taskRepository.currentChangeWatermark();
+
+        // Fetch one extra row to find out whether another page exists
+        var rows = taskRepository.findChanges(token, !fullSync, pageSize + 1);
+
+        // Checked after reading so a purge racing this query cannot slip a deletion past the client
+        if (!fullSync && token.since() <= taskRepository.syncHorizon()) {
+            throw new TaskSyncTokenExpiredException("Sync token has expired, start again with a full sync");
+        }
+
+        var hasMore = rows.size() > pageSize;
+        var page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        var changed = new ArrayList<TaskResponse>();
+        var deleted = new ArrayList<UUID>();
+        for (TaskChange row : page) {
+            if (row.isDeletion()) {
+                deleted.add(row.id());
+            } else {
+                changed.add(row.task());
+            }
+        }
+
+        String next;
+        if (hasMore) {
+            var last = page.getLast();
+            next = token.continueAfter(until, last.changeTxid(), last.id()).encode();
+        } else {
+            next = TaskChangeToken.from(until).encode();
+        }
+
+        return TaskChangesResponse.builder()
+                .changed(changed)
+                .deleted(deleted)
+                .next(next)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /**
+     * Purge tombstones older than the retention window
+     */
+    @Scheduled(initialDelayString = "${task.sync.compaction-interval:PT1H}",
+               fixedDelayString = "${task.sync.compaction-interval:PT1H}")
+    public void compactTombstones() {
+        compactTombstones(tombstoneRetention);
+    }
+
+    /**
+     * Purge tombstones older than the given retention; sync tokens issued before those deletions expire
+     */
+    public int compactTombstones(Duration retention) {
+        var purged = taskRepository.purgeTombstones(retention);
+        if (purged > 0) {
+            log.info("Purged {} task tombstones older than {}", purged, retention);
+        }
+        return purged;
+    }
+
+    private int resolvePageSize(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be greater than zero");
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+}
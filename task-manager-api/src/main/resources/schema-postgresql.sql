@@ -0,0 +1,79 @@
+-- Runs after Hibernate has created or updated the task table (spring.jpa.defer-datasource-initialization)
+
+-- Full-text document for GET /api/tasks/search: title matches rank above description matches
+alter table task add column if not exists search_vector tsvector
+    generated always as (
+        setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(description, '')), 'B')
+    ) stored;
+
+create index if not exists idx_task_search_vector on task using gin (search_vector);
+
+-- Title prefix filter (q on GET /api/tasks): title LIKE 'x%' can only use a btree index in the "C" collation or
+-- with pattern ops, so the (title, id) indexes from the entity, built in the database collation, cannot serve it.
+-- These match the prefix on their own and with a status; the matches are then sorted by title or createdAt.
+create index if not exists idx_task_title_pattern on task (title text_pattern_ops);
+
+create index if not exists idx_task_status_title_pattern on task (status, title text_pattern_ops);
+
+-- Delta sync for GET /api/tasks/changes
+-- change_txid is the id of the transaction that last wrote the row. Sync tokens are snapshot xmins, so
+-- "changed since" never depends on wall clocks and a transaction still in flight when a token was issued
+-- is always picked up by the next sync. Function bodies are single-quoted so the script splitter keeps them whole.
+alter table task add column if not exists change_txid bigint not null default pg_current_xact_id()::text::bigint;
+
+create index if not exists idx_task_change_txid_id on task (change_txid, id);
+
+create or replace function task_touch_change_txid() returns trigger language plpgsql as
+'begin new.change_txid := pg_current_xact_id()::text::bigint; return new; end';
+
+drop trigger if exists task_touch_change_txid on task;
+
+create trigger task_touch_change_txid before insert or update on task
+    for each row execute function task_touch_change_txid();
+
+-- Deleted tasks leave a tombstone until compaction purges it
+create table if not exists task_tombstone (
+    task_id uuid primary key,
+    change_txid bigint not null,
+    deleted_at timestamp not null
+);
+
+create index if not exists idx_task_tombstone_change_txid_task_id on task_tombstone (change_txid, task_id);
+
+create index if not exists idx_task_tombstone_deleted_at on task_tombstone (deleted_at);
+
+create or replace function task_record_tombstone() returns trigger language plpgsql as
+'begin
+    insert into task_tombstone (task_id, change_txid, deleted_at)
+    values (old.id, pg_current_xact_id()::text::bigint, localtimestamp)
+    on conflict (task_id) do update set change_txid = excluded.change_txid, deleted_at = excluded.deleted_at;
+    return old;
+end';
+
+drop trigger if exists task_record_tombstone on task;
+
+create trigger task_record_tombstone after delete on task
+    for each row execute function task_record_tombstone();
+
+-- Highest change_txid of any purged tombstone; tokens at or below it may have missed a deletion
+create table if not exists task_sync_horizon (
+    id smallint primary key,
+    horizon bigint not null
+);
+
+insert into task_sync_horizon (id, horizon) values (1, 0) on conflict (id) do nothing;
+
+-- Idempotency keys and the responses replayed for them when task.idempotency.store=jdbc
+-- idempotency_key is a SHA-256 of the client scope and the client's key; status is null while in progress
+create table if not exists task_idempotency_key (
+    idempotency_key varchar(64) primary key,
+    fingerprint varchar(64) not null,
+    status integer,
+    content_type varchar(255),
+    headers text,
+    body bytea,
+    expires_at timestamp not null
+);
+
+create index if not exists idx_task_idempotency_key_expires_at on task_idempotency_key (expires_at);
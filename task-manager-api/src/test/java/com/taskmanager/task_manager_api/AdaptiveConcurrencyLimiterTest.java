@@ -0,0 +1,135 @@
+package com.taskmanager.task_manager_api;
+
+import com.taskmanager.task_manager_api.loadshed.AdaptiveConcurrencyLimiter;
+import com.taskmanager.task_manager_api.loadshed.ConcurrencyLimitProperties;
+import com.taskmanager.task_manager_api.loadshed.RequestPriority;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for AdaptiveConcurrencyLimiter
+ */
+@DisplayName("Adaptive Concurrency Limiter Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long SLOW = TimeUnit.SECONDS.toNanos(1);
+
+    private AdaptiveConcurrencyLimiter limiter;
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new AdaptiveConcurrencyLimiter(
+                new ConcurrencyLimitProperties(10, 2, 20, Duration.ofMillis(250), Duration.ofSeconds(2), 0.5));
+    }
+
+    @Test
+    @DisplayName("Should admit each priority up to its share of the limit")
+    void shouldAdmitUpToPriorityShare() {
+        // When: five low-priority requests fill their 50% share
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire(RequestPriority.LOW)).isTrue();
+        }
+
+        // Then
+        assertThat(limiter.tryAcquire(RequestPriority.LOW)).isFalse();
+        assertThat(limiter.tryAcquire(RequestPriority.NORMAL)).isTrue();
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.tryAcquire(RequestPriority.HIGH)).isTrue();
+        }
+        assertThat(limiter.tryAcquire(RequestPriority.HIGH)).isFalse();
+        assertThat(limiter.rejected(RequestPriority.LOW)).isEqualTo(1);
+        assertThat(limiter.rejected(RequestPriority.HIGH)).isEqualTo(1);
+        assertThat(limiter.inFlight()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should back off multiplicatively on slow or failed requests down to the minimum")
+    void shouldBackOffOnSlowRequests() {
+        // Given
+        assertThat(limiter.tryAcquire(RequestPriority.HIGH)).isTrue();
+
+        // When
+        complete(RequestPriority.HIGH, SLOW, false);
+
+        // Then
+        assertThat(limiter.limit()).isEqualTo(5);
+
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire(RequestPriority.HIGH);
+            complete(RequestPriority.HIGH, FAST, true);
+        }
+        assertThat(limiter.limit()).isEqualTo(2);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should back off once for a burst of slow responses admitted together")
+    void shouldBackOffOncePerRoundTrip() {
+        // Given: four requests admitted at the same moment
+        var start = now;
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.tryAcquire(RequestPriority.HIGH)).isTrue();
+        }
+
+        // When: all of them come back slow
+        for (int i = 0; i < 4; i++) {
+            limiter.release(RequestPriority.HIGH, start, start + SLOW + i, false);
+        }
+
+        // Then
+        assertThat(limiter.limit()).isEqualTo(5);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should judge latency against the threshold of the request's priority")
+    void shouldUsePerPriorityLatencyThreshold() {
+        // When: a one-second list call stays under the low-priority threshold
+        limiter.tryAcquire(RequestPriority.LOW);
+        complete(RequestPriority.LOW, SLOW, false);
+
+        // Then
+        assertThat(limiter.limit()).isEqualTo(10);
+
+        // When: a one-second point read does not
+        limiter.tryAcquire(RequestPriority.HIGH);
+        complete(RequestPriority.HIGH, SLOW, false);
+
+        // Then
+        assertThat(limiter.limit()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should grow additively only while the limit is in use")
+    void shouldGrowWhileSaturated() {
+        // Given: a single request in flight does not use the limit
+        limiter.tryAcquire(RequestPriority.HIGH);
+        complete(RequestPriority.HIGH, FAST, false);
+        assertThat(limiter.limit()).isEqualTo(10);
+
+        // When: half the limit or more is in flight
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire(RequestPriority.HIGH);
+        }
+        complete(RequestPriority.HIGH, FAST, false);
+
+        // Then
+        assertThat(limiter.limit()).isEqualTo(11);
+    }
+
+    /**
+     * Release one request admitted now that took the given time, then move the clock past it
+     */
+    private void complete(RequestPriority priority, long latencyNanos, boolean overloaded) {
+        limiter.release(priority, now, now + latencyNanos, overloaded);
+        now += latencyNanos + 1;
+    }
+}
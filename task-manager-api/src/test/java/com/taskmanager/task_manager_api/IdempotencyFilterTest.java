@@ -0,0 +1,226 @@
+package com.taskmanager.task_manager_api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.task_manager_api.idempotency.IdempotencyFilter;
+import com.taskmanager.task_manager_api.idempotency.IdempotencyProperties;
+import com.taskmanager.task_manager_api.idempotency.IdempotencyStore;
+import com.taskmanager.task_manager_api.idempotency.InMemoryIdempotencyStore;
+import com.taskmanager.task_manager_api.idempotency.StoredResponse;
+import com.taskmanager.task_manager_api.ratelimit.ApiClientProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for IdempotencyFilter with the in-memory store
+ */
+@DisplayName("Idempotency Filter Tests")
+class IdempotencyFilterTest {
+
+    private static final String BODY = "{\"title\":\"Task\"}";
+
+    private final AtomicInteger executions = new AtomicInteger();
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private IdempotencyProperties properties;
+    private IdempotencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new IdempotencyProperties("Idempotency-Key", IdempotencyProperties.Store.MEMORY,
+                                               Duration.ofHours(1), Duration.ofMinutes(1), Duration.ofSeconds(5),
+                                               DataSize.ofMegabytes(1), DataSize.ofBytes(64));
+        filter = filter(new InMemoryIdempotencyStore(properties));
+    }
+
+    @Test
+    @DisplayName("Should run a duplicate arriving while the original is in flight only once")
+    void shouldCoalesceInFlightDuplicates() throws Exception {
+        // Given: the original blocks inside the chain until released
+        FilterChain chain = (request, response) -> {
+            executions.incrementAndGet();
+            assertThat(new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+            started.countDown();
+            awaitRelease();
+            var http = (HttpServletResponse) response;
+            http.setStatus(201);
+            http.setContentType("application/json");
+            response.getOutputStream().write("{\"id\":\"1\"}".getBytes(StandardCharsets.UTF_8));
+        };
+
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            var original = new MockHttpServletResponse();
+            var originalDone = executor.submit(() -> {
+                filter.doFilter(request("key-1", "10.0.0.1"), original, chain);
+                return null;
+            });
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // When
+            var duplicate = new MockHttpServletResponse();
+            var duplicateDone = executor.submit(() -> {
+                filter.doFilter(request("key-1", "10.0.0.1"), duplicate, chain);
+                return null;
+            });
+            release.countDown();
+            originalDone.get(5, TimeUnit.SECONDS);
+            duplicateDone.get(5, TimeUnit.SECONDS);
+
+            // Then
+            assertThat(executions).hasValue(1);
+            assertThat(original.getStatus()).isEqualTo(201);
+            assertThat(duplicate.getStatus()).isEqualTo(201);
+            assertThat(duplicate.getContentAsString()).isEqualTo("{\"id\":\"1\"}");
+            assertThat(duplicate.getHeader("Idempotent-Replayed")).isEqualTo("true");
+        }
+    }
+
+    @Test
+    @DisplayName("Should scope keys per client and run again after a server error")
+    void shouldScopeKeysAndForgetServerErrors() throws Exception {
+        // Given
+        var status = new AtomicInteger(500);
+        FilterChain chain = (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(status.get());
+        };
+
+        // When
+        filter.doFilter(request("key-1", "10.0.0.1"), new MockHttpServletResponse(), chain);
+        status.set(201);
+        filter.doFilter(request("key-1", "10.0.0.1"), new MockHttpServletResponse(), chain);
+        filter.doFilter(request("key-1", "10.0.0.1"), new MockHttpServletResponse(), chain);
+        filter.doFilter(request("key-1", "10.0.0.2"), new MockHttpServletResponse(), chain);
+        filter.doFilter(withApiKey(request("key-1", "10.0.0.2"), "made-up-key"), new MockHttpServletResponse(), chain);
+        filter.doFilter(withApiKey(request("key-1", "10.0.0.2"), "issued-key"), new MockHttpServletResponse(), chain);
+
+        // Then: the 500 was not stored, the 201 was replayed once, the other address ran its own request and a
+        // made-up API key stayed in that address's scope while the issued key got a scope of its own
+        assertThat(executions).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("Should free the key when the request ends with an error")
+    void shouldReleaseKeyWhenChainThrowsError() throws Exception {
+        // Given
+        FilterChain failing = (request, response) -> {
+            executions.incrementAndGet();
+            throw new StackOverflowError();
+        };
+        FilterChain succeeding = (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(201);
+        };
+
+        // When
+        assertThatThrownBy(() -> filter.doFilter(request("key-1", "10.0.0.1"), new MockHttpServletResponse(), failing))
+                .isInstanceOf(StackOverflowError.class);
+        var retry = new MockHttpServletResponse();
+        filter.doFilter(request("key-1", "10.0.0.1"), retry, succeeding);
+
+        // Then
+        assertThat(executions).hasValue(2);
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getHeader("Idempotent-Replayed")).isNull();
+    }
+
+    @Test
+    @DisplayName("Should keep the key claimed when the response cannot be stored after the request ran")
+    void shouldKeepKeyClaimedWhenStoringFails() throws Exception {
+        // Given: a store that accepts claims but fails to save responses
+        var failing = filter(new InMemoryIdempotencyStore(properties) {
+            @Override
+            public void complete(String key, String fingerprint, StoredResponse response) {
+                throw new IllegalStateException("store unavailable");
+            }
+        });
+        FilterChain chain = (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(201);
+        };
+
+        // When
+        var original = new MockHttpServletResponse();
+        failing.doFilter(request("key-1", "10.0.0.1"), original, chain);
+        var retry = new MockHttpServletResponse();
+        failing.doFilter(request("key-1", "10.0.0.1"), retry, chain);
+
+        // Then: the client still got its response, and the retry did not run the write again
+        assertThat(original.getStatus()).isEqualTo(201);
+        assertThat(retry.getStatus()).isEqualTo(409);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Should reject bodies over the limit with 413 without running the request")
+    void shouldRejectOversizedBodies() throws Exception {
+        // Given
+        FilterChain chain = (request, response) -> executions.incrementAndGet();
+        var declared = request("key-1", "10.0.0.1");
+        declared.setContent("x".repeat(65).getBytes(StandardCharsets.UTF_8));
+        var chunked = new MockHttpServletRequest("POST", "/api/tasks") {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        chunked.addHeader("Idempotency-Key", "key-2");
+        chunked.setContent("x".repeat(65).getBytes(StandardCharsets.UTF_8));
+
+        // When
+        var declaredResponse = new MockHttpServletResponse();
+        filter.doFilter(declared, declaredResponse, chain);
+        var chunkedResponse = new MockHttpServletResponse();
+        filter.doFilter(chunked, chunkedResponse, chain);
+
+        // Then
+        assertThat(declaredResponse.getStatus()).isEqualTo(413);
+        assertThat(chunkedResponse.getStatus()).isEqualTo(413);
+        assertThat(executions).hasValue(0);
+    }
+
+    private void awaitRelease() {
+        try {
+            assertThat(release.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private IdempotencyFilter filter(IdempotencyStore store) {
+        var apiClients = new ApiClientProperties("X-API-Key", Set.of("issued-key"));
+        return new IdempotencyFilter(store, properties, apiClients, new ObjectMapper(), new SimpleMeterRegistry());
+    }
+
+    private static MockHttpServletRequest request(String idempotencyKey, String remoteAddr) {
+        var request = new MockHttpServletRequest("POST", "/api/tasks");
+        request.setRemoteAddr(remoteAddr);
+        request.addHeader("Idempotency-Key", idempotencyKey);
+        request.setContentType("application/json");
+        request.setContent(BODY.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static MockHttpServletRequest withApiKey(MockHttpServletRequest request, String apiKey) {
+        request.addHeader("X-API-Key", apiKey);
+        return request;
+    }
+}
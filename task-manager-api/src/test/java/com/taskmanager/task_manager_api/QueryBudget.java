@@ -0,0 +1,30 @@
+package com.taskmanager.task_manager_api;
+
+import com.taskmanager.task_manager_api.jdbc.QueryCountFilter;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+
+/**
+ * MockMvc matchers for the SQL a request may issue, read from the QueryCountFilter headers
+ * Needs task.query-count.header-enabled=true in the test context.
+ */
+final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    /**
+     * Exactly this many SQL statements, each row of a batch counted separately
+     */
+    static ResultMatcher statements(long expected) {
+        return header().string(QueryCountFilter.STATEMENTS_HEADER, Long.toString(expected));
+    }
+
+    /**
+     * Exactly this many executions sent to the database, a batch counting once
+     */
+    static ResultMatcher roundTrips(long expected) {
+        return header().string(QueryCountFilter.ROUND_TRIPS_HEADER, Long.toString(expected));
+    }
+}
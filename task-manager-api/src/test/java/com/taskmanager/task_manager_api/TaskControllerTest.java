@@ -1,20 +1,31 @@
 package com.taskmanager.task_manager_api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.taskmanager.task_manager_api.config.CacheConfig;
+import com.taskmanager.task_manager_api.jdbc.QueryCountFilter;
 import com.taskmanager.task_manager_api.model.Enum.TaskStatus;
 import com.taskmanager.task_manager_api.model.dto.*;
+import com.taskmanager.task_manager_api.model.entity.Task;
 import com.taskmanager.task_manager_api.repository.TaskRepository;
+import com.taskmanager.task_manager_api.service.TaskStatsService;
+import com.taskmanager.task_manager_api.service.TaskSyncService;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.MediaType;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -25,8 +36,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * Integration tests for TaskController
  * Tests the complete web layer with real database interactions
  */
-@SpringBootTest
+@SpringBootTest(properties = {"task.query-count.header-enabled=true", "task.clients.api-keys=trusted-client"})
 @AutoConfigureMockMvc
+@AutoConfigureObservability
 @ActiveProfiles("test")
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
 @DisplayName("Task Controller Integration Tests")
@@ -41,6 +53,15 @@ class TaskControllerTest {
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TaskStatsService taskStatsService;
+
+    @Autowired
+    private TaskSyncService taskSyncService;
+
     @BeforeEach
     void setUp() {
         // Clean database before each test
@@ -120,6 +141,62 @@ class TaskControllerTest {
         assertThat(taskRepository.count()).isEqualTo(0);
     }
 
+    @Test
+    @DisplayName("Should bulk create tasks and report per-item results")
+    void shouldBulkCreateTasks() throws Exception {
+        var requests = java.util.List.of(
+                CreateTaskRequest.builder().title("Bulk One").build(),
+                CreateTaskRequest.builder().title("").build(),
+                CreateTaskRequest.builder().title("Bulk Two").status(TaskStatus.DONE).build());
+
+        mockMvc.perform(post("/api/tasks/bulk")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[0].id").exists())
+                .andExpect(jsonPath("$.results[1].status").value("REJECTED"))
+                .andExpect(jsonPath("$.results[1].error").value("Task title cannot be blank"))
+                .andExpect(jsonPath("$.results[2].status").value("CREATED"));
+
+        assertThat(taskRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should create a task once per Idempotency-Key and replay the stored response")
+    void shouldReplayCreateForSameIdempotencyKey() throws Exception {
+        var body = objectMapper.writeValueAsString(CreateTaskRequest.builder().title("Created once").build());
+
+        String created = mockMvc.perform(post("/api/tasks")
+                                                 .header("Idempotency-Key", "create-1")
+                                                 .contentType(MediaType.APPLICATION_JSON)
+                                                 .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"))
+                .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(post("/api/tasks")
+                                .header("Idempotency-Key", "create-1")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(body))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(header().exists("ETag"))
+                .andExpect(content().json(created, true));
+
+        mockMvc.perform(post("/api/tasks")
+                                .header("Idempotency-Key", "create-1")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(
+                                        CreateTaskRequest.builder().title("Something else").build())))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message").exists());
+
+        assertThat(taskRepository.count()).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("Should get all tasks successfully")
     void shouldGetAllTasksSuccessfully() throws Exception {
@@ -129,11 +206,12 @@ class TaskControllerTest {
 
         mockMvc.perform(get("/api/tasks"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(3))
-                .andExpect(jsonPath("$[*].title").value(
+                .andExpect(jsonPath("$.items").isArray())
+                .andExpect(jsonPath("$.items.length()").value(3))
+                .andExpect(jsonPath("$.items[*].title").value(
                         org.hamcrest.Matchers.containsInAnyOrder(
-                                "First Task", "Second Task", "Third Task")));
+                                "First Task", "Second Task", "Third Task")))
+                .andExpect(jsonPath("$.next").doesNotExist());
 
         assertThat(taskRepository.count()).isEqualTo(3);
     }
@@ -143,8 +221,224 @@ class TaskControllerTest {
     void shouldReturnEmptyArrayWhenNoTasks() throws Exception {
         mockMvc.perform(get("/api/tasks"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(0));
+                .andExpect(jsonPath("$.items").isArray())
+                .andExpect(jsonPath("$.items.length()").value(0));
+    }
+
+    @Test
+    @DisplayName("Should page through tasks using the next cursor")
+    void shouldPageThroughTasksWithCursor() throws Exception {
+        createTestTask("First Task", "First description", TaskStatus.TODO);
+        createTestTask("Second Task", "Second description", TaskStatus.TODO);
+        createTestTask("Third Task", "Third description", TaskStatus.TODO);
+
+        MvcResult firstPage = mockMvc.perform(get("/api/tasks").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].title").value("First Task"))
+                .andExpect(jsonPath("$.items[1].title").value("Second Task"))
+                .andExpect(jsonPath("$.next").isString())
+                .andReturn();
+
+        String next = objectMapper.readValue(firstPage.getResponse().getContentAsString(), TaskPageResponse.class)
+                .getNext();
+
+        mockMvc.perform(get("/api/tasks").param("limit", "2").param("cursor", next))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].title").value("Third Task"))
+                .andExpect(jsonPath("$.next").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should filter by status and title prefix and sort on the server")
+    void shouldFilterAndSortTasks() throws Exception {
+        createTestTask("Deploy backend", "Ship the API", TaskStatus.DONE);
+        createTestTask("Write docs", "Document the API", TaskStatus.TODO);
+        createTestTask("Deploy frontend", "Ship the UI", TaskStatus.TODO);
+        createTestTask("Debug login", "Fix the bug", TaskStatus.IN_PROGRESS);
+
+        mockMvc.perform(get("/api/tasks").param("sort", "status"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].title").value(org.hamcrest.Matchers.contains(
+                        "Deploy frontend", "Write docs", "Debug login", "Deploy backend")));
+
+        mockMvc.perform(get("/api/tasks").param("q", "Deploy").param("sort", "title"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].title").value(org.hamcrest.Matchers.contains(
+                        "Deploy backend", "Deploy frontend")));
+
+        mockMvc.perform(get("/api/tasks").param("status", "TODO").param("q", "Deploy"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].title").value("Deploy frontend"));
+    }
+
+    @Test
+    @DisplayName("Should page across statuses when sorting by status")
+    void shouldPageAcrossStatusesWhenSortingByStatus() throws Exception {
+        createTestTask("Done task", "d", TaskStatus.DONE);
+        createTestTask("Todo task", "t", TaskStatus.TODO);
+        createTestTask("Progress task", "p", TaskStatus.IN_PROGRESS);
+
+        MvcResult firstPage = mockMvc.perform(get("/api/tasks").param("sort", "status").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].title").value(org.hamcrest.Matchers.contains(
+                        "Todo task", "Progress task")))
+                .andReturn();
+
+        String next = objectMapper.readValue(firstPage.getResponse().getContentAsString(), TaskPageResponse.class)
+                .getNext();
+
+        mockMvc.perform(get("/api/tasks").param("sort", "status").param("limit", "2").param("cursor", next))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].title").value(org.hamcrest.Matchers.contains("Done task")))
+                .andExpect(jsonPath("$.next").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should answer 304 for an unchanged task list until a task changes")
+    void shouldReturnNotModifiedForUnchangedList() throws Exception {
+        createTestTask("First Task", "First description", TaskStatus.TODO);
+
+        String etag = mockMvc.perform(get("/api/tasks"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/tasks").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        createTestTask("Second Task", "Second description", TaskStatus.TODO);
+
+        mockMvc.perform(get("/api/tasks").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", org.hamcrest.Matchers.not(etag)))
+                .andExpect(jsonPath("$.items.length()").value(2));
+    }
+
+    @Test
+    @DisplayName("Should encode the task list as CBOR or Smile when the client accepts it")
+    void shouldNegotiateBinaryEncodings() throws Exception {
+        createTestTask("Binary Task", "Binary description", TaskStatus.IN_PROGRESS);
+
+        byte[] cbor = mockMvc.perform(get("/api/tasks").accept("application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andExpect(header().string("Vary", org.hamcrest.Matchers.containsString("Accept")))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        var task = new CBORMapper().readTree(cbor).get("items").get(0);
+        assertThat(task.get("title").asText()).isEqualTo("Binary Task");
+        assertThat(task.get("status").asText()).isEqualTo("IN_PROGRESS");
+        assertThat(task.get("createdAt").isArray()).isTrue();
+
+        byte[] smile = mockMvc.perform(get("/api/tasks").accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(new SmileMapper().readTree(smile).get("items").get(0).get("title").asText())
+                .isEqualTo("Binary Task");
+
+        mockMvc.perform(get("/api/tasks"))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.items[0].createdAt").isString());
+    }
+
+    @Test
+    @DisplayName("Should return 400 for a malformed cursor")
+    void shouldReturnBadRequestForMalformedCursor() throws Exception {
+        mockMvc.perform(get("/api/tasks").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").exists());
+    }
+
+    @Test
+    @DisplayName("Should search titles and descriptions and rank title matches first")
+    void shouldSearchTasks() throws Exception {
+        createTestTask("Write docs", "Describe the deployment steps", TaskStatus.TODO);
+        createTestTask("Deploy backend", "Ship the API", TaskStatus.DONE);
+        createTestTask("Debug login", "Fix the bug", TaskStatus.IN_PROGRESS);
+
+        MvcResult firstPage = mockMvc.perform(get("/api/tasks/search").param("q", "deploy").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].title").value(org.hamcrest.Matchers.contains("Deploy backend")))
+                .andExpect(jsonPath("$.next").exists())
+                .andReturn();
+
+        String next = objectMapper.readValue(firstPage.getResponse().getContentAsString(), TaskPageResponse.class)
+                .getNext();
+
+        mockMvc.perform(get("/api/tasks/search").param("q", "deploy").param("limit", "1").param("cursor", next))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[*].title").value(org.hamcrest.Matchers.contains("Write docs")))
+                .andExpect(jsonPath("$.next").doesNotExist());
+
+        mockMvc.perform(get("/api/tasks/search").param("q", "  "))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should return 400 for a non-positive list limit")
+    void shouldReturnBadRequestForNonPositiveListLimit() throws Exception {
+        mockMvc.perform(get("/api/tasks").param("limit", "-1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Validation failed"))
+                .andExpect(jsonPath("$.error").value(org.hamcrest.Matchers.containsString("limit=")));
+    }
+
+    @Test
+    @DisplayName("Should return 400 for invalid search parameters")
+    void shouldReturnBadRequestForInvalidSearchParameters() throws Exception {
+        mockMvc.perform(get("/api/tasks/search").param("q", "deploy").param("limit", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Validation failed"))
+                .andExpect(jsonPath("$.error").value(org.hamcrest.Matchers.containsString("limit=")));
+
+        mockMvc.perform(get("/api/tasks/search").param("q", "x".repeat(201)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value(org.hamcrest.Matchers.containsString("q=")));
+    }
+
+    @Test
+    @DisplayName("Should export all tasks as newline-delimited JSON")
+    void shouldExportTasksAsNdjson() throws Exception {
+        createTestTask("First Task", "First description", TaskStatus.TODO);
+        createTestTask("Second Task", "Second description", TaskStatus.DONE);
+
+        MvcResult result = mockMvc.perform(get("/api/tasks/export"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn();
+
+        var lines = result.getResponse().getContentAsString().lines().toList();
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readValue(lines.get(0), TaskResponse.class).getTitle()).isEqualTo("First Task");
+        assertThat(objectMapper.readValue(lines.get(1), TaskResponse.class).getTitle()).isEqualTo("Second Task");
+    }
+
+    @Test
+    @DisplayName("Should push committed changes to event stream subscribers")
+    void shouldStreamTaskEvents() throws Exception {
+        MvcResult stream = mockMvc.perform(get("/api/tasks/events").accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        UUID taskId = createTestTask("Streamed Task", "Pushed to subscribers", TaskStatus.TODO);
+        mockMvc.perform(delete("/api/tasks/{id}", taskId))
+                .andExpect(status().isNoContent());
+
+        var deadline = System.currentTimeMillis() + 5_000;
+        String body = "";
+        while (!body.contains("event:DELETED") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            body = stream.getResponse().getContentAsString();
+        }
+
+        assertThat(body).contains("event:CREATED", "\"title\":\"Streamed Task\"", "event:DELETED");
+        assertThat(body.indexOf("event:CREATED")).isLessThan(body.indexOf("event:DELETED"));
     }
 
     @Test
@@ -162,6 +456,187 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.status").value("TODO"));
     }
 
+    @Test
+    @DisplayName("Should expose route SLO histograms, pool, Hibernate and JVM metrics for Prometheus")
+    void shouldExposePrometheusMetrics() throws Exception {
+        UUID taskId = createTestTask("Measured Task", "Measured description", TaskStatus.TODO);
+        mockMvc.perform(get("/api/tasks/{id}", taskId))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(org.hamcrest.Matchers.allOf(
+                        org.hamcrest.Matchers.containsString("http_server_requests_seconds_bucket{"),
+                        org.hamcrest.Matchers.containsString("le=\"0.005\""),
+                        org.hamcrest.Matchers.containsString("uri=\"/api/tasks/{id}\""),
+                        org.hamcrest.Matchers.not(org.hamcrest.Matchers.containsString("uri=\"/api/tasks/" + taskId)),
+                        org.hamcrest.Matchers.containsString("hikaricp_connections_pending"),
+                        org.hamcrest.Matchers.containsString("hikaricp_connections_acquire_seconds_bucket"),
+                        org.hamcrest.Matchers.containsString("hibernate_query_executions_total"),
+                        org.hamcrest.Matchers.containsString("hibernate_flushes_total"),
+                        org.hamcrest.Matchers.containsString("jvm_gc_memory_allocated_bytes_total"),
+                        org.hamcrest.Matchers.containsString("jdbc_request_statements_bucket{"))));
+    }
+
+    @Test
+    @DisplayName("Should keep every endpoint within its SQL statement budget")
+    void shouldStayWithinQueryBudgets() throws Exception {
+        var createRequest = CreateTaskRequest.builder().title("Budgeted Task").status(TaskStatus.TODO).build();
+        MvcResult created = mockMvc.perform(post("/api/tasks")
+                                                    .contentType(MediaType.APPLICATION_JSON)
+                                                    .content(objectMapper.writeValueAsString(createRequest)))
+                .andExpect(status().isCreated())
+                .andExpect(QueryBudget.statements(1))
+                .andReturn();
+        UUID taskId = objectMapper.readValue(created.getResponse().getContentAsString(), TaskResponse.class).getId();
+
+        var bulk = java.util.List.of(
+                CreateTaskRequest.builder().title("Bulk One").build(),
+                CreateTaskRequest.builder().title("Bulk Two").build(),
+                CreateTaskRequest.builder().title("Bulk Three").build());
+        mockMvc.perform(post("/api/tasks/bulk")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(bulk)))
+                .andExpect(status().isOk())
+                .andExpect(QueryBudget.statements(3))
+                .andExpect(QueryBudget.roundTrips(1));
+
+        // One select on a cache miss, none on a hit
+        cacheManager.getCache(CacheConfig.TASKS).clear();
+        mockMvc.perform(get("/api/tasks/{id}", taskId))
+                .andExpect(status().isOk())
+                .andExpect(QueryBudget.statements(1));
+        mockMvc.perform(get("/api/tasks/{id}", taskId))
+                .andExpect(status().isOk())
+                .andExpect(QueryBudget.statements(0));
+
+        mockMvc.perform(get("/api/tasks"))
+                .andExpect(status().isOk())
+                .andExpect(QueryBudget.statements(1));
+
+        mockMvc.perform(put("/api/tasks/{id}", taskId)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(
+                                        UpdateTaskRequest.builder().title("Budgeted, renamed").build())))
+                .andExpect(status().isOk())
+                .andExpect(QueryBudget.statements(1));
+
+        mockMvc.perform(patch("/api/tasks/{id}/status", taskId)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(new UpdateTaskStatusRequest(TaskStatus.DONE))))
+                .andExpect(status().isOk())
+                .andExpect(QueryBudget.statements(1));
+
+        mockMvc.perform(delete("/api/tasks/{id}", taskId))
+                .andExpect(status().isNoContent())
+                .andExpect(QueryBudget.statements(1));
+
+        mockMvc.perform(delete("/api/tasks/{id}", taskId))
+                .andExpect(status().isNotFound())
+                .andExpect(QueryBudget.statements(1));
+    }
+
+    @Test
+    @DisplayName("Should rate limit a client that exhausts its bucket with 429 and Retry-After")
+    void shouldRateLimitNoisyClient() throws Exception {
+        // List calls cost 5 of the 100 tokens in a bucket; the bucket refills while the loop runs.
+        // The client invents a new API key on every call, which must not earn it a fresh bucket
+        MvcResult limited = null;
+        int admitted = 0;
+        while (limited == null && admitted < 100) {
+            var result = mockMvc.perform(get("/api/tasks")
+                                                 .header("X-API-Key", UUID.randomUUID().toString())
+                                                 .with(remoteAddr("10.0.0.1")))
+                    .andReturn();
+            if (result.getResponse().getStatus() == 429) {
+                limited = result;
+            } else {
+                assertThat(result.getResponse().getStatus()).isEqualTo(200);
+                admitted++;
+            }
+        }
+
+        assertThat(limited).isNotNull();
+        assertThat(admitted).isGreaterThanOrEqualTo(20);
+        assertThat(limited.getResponse().getHeader("Retry-After")).isNotNull();
+        assertThat(limited.getResponse().getHeader(QueryCountFilter.STATEMENTS_HEADER)).isEqualTo("0");
+        assertThat(limited.getResponse().getContentAsString()).contains("\"status\":429");
+
+        // Other addresses and issued API keys keep their own budget
+        mockMvc.perform(get("/api/tasks").with(remoteAddr("10.0.0.2")))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/tasks").header("X-API-Key", "trusted-client").with(remoteAddr("10.0.0.1")))
+                .andExpect(status().isOk());
+
+        // Rejections run inside the HTTP observation, so they show up in the request metrics
+        var metrics = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertThat(metrics).containsPattern("http_server_requests_seconds_count\\{[^}]*status=\"429\"");
+    }
+
+    @Test
+    @DisplayName("Should expose the adaptive concurrency limit on actuator")
+    void shouldExposeConcurrencyLimit() throws Exception {
+        mockMvc.perform(get("/api/tasks"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/concurrencylimit"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.limit").isNumber())
+                .andExpect(jsonPath("$.inFlight").value(0))
+                .andExpect(jsonPath("$.rejected.LOW").value(0));
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(org.hamcrest.Matchers.containsString("task_concurrency_limit")));
+    }
+
+    @Test
+    @DisplayName("Should keep the task cache in step with writes")
+    void shouldKeepTaskCacheInStepWithWrites() throws Exception {
+        UUID taskId = createTestTask("Cached Task", "Cached description", TaskStatus.TODO);
+        var cache = cacheManager.getCache(CacheConfig.TASKS);
+
+        // Create populates the cache, so reads are served without touching the database
+        assertThat(cache.get(taskId, TaskResponse.class).getTitle()).isEqualTo("Cached Task");
+
+        var statusRequest = UpdateTaskStatusRequest.builder()
+                .status(TaskStatus.DONE)
+                .build();
+        mockMvc.perform(patch("/api/tasks/{id}/status", taskId)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(statusRequest)))
+                .andExpect(status().isOk());
+
+        assertThat(cache.get(taskId, TaskResponse.class).getStatus()).isEqualTo(TaskStatus.DONE);
+        mockMvc.perform(get("/api/tasks/{id}", taskId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("DONE"));
+
+        mockMvc.perform(delete("/api/tasks/{id}", taskId))
+                .andExpect(status().isNoContent());
+
+        assertThat(cache.get(taskId)).isNull();
+        mockMvc.perform(get("/api/tasks/{id}", taskId))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should answer 304 for an unchanged task")
+    void shouldReturnNotModifiedForUnchangedTask() throws Exception {
+        UUID taskId = createTestTask("Test Task", "Test description", TaskStatus.TODO);
+
+        String etag = mockMvc.perform(get("/api/tasks/{id}", taskId))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/tasks/{id}", taskId).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
     @Test
     @DisplayName("Should return 404 when getting non-existent task")
     void shouldReturn404WhenTaskNotFound() throws Exception {
@@ -257,6 +732,153 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.message").value("Task not found with ID: " + nonExistentId));
     }
 
+    @Test
+    @DisplayName("Should bulk update status by ids and by current status")
+    void shouldBulkUpdateTaskStatuses() throws Exception {
+        UUID first = createTestTask("First", "d", TaskStatus.TODO);
+        UUID second = createTestTask("Second", "d", TaskStatus.TODO);
+        createTestTask("Third", "d", TaskStatus.IN_PROGRESS);
+
+        var byIds = BulkUpdateTaskStatusRequest.builder()
+                .ids(java.util.List.of(first, second))
+                .status(TaskStatus.IN_PROGRESS)
+                .build();
+
+        mockMvc.perform(patch("/api/tasks/status")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(byIds)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(2));
+
+        var byStatus = BulkUpdateTaskStatusRequest.builder()
+                .fromStatus(TaskStatus.IN_PROGRESS)
+                .status(TaskStatus.DONE)
+                .build();
+
+        mockMvc.perform(patch("/api/tasks/status")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(byStatus)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(3));
+
+        assertThat(taskRepository.findAll())
+                .allSatisfy(task -> assertThat(task.getStatus()).isEqualTo(TaskStatus.DONE));
+
+        // Moving a status onto itself rewrites nothing
+        var versions = taskRepository.findAll().stream()
+                .collect(java.util.stream.Collectors.toMap(Task::getId, Task::getVersion));
+        var noop = BulkUpdateTaskStatusRequest.builder()
+                .fromStatus(TaskStatus.DONE)
+                .status(TaskStatus.DONE)
+                .build();
+
+        mockMvc.perform(patch("/api/tasks/status")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(noop)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(0));
+
+        assertThat(taskRepository.findAll())
+                .allSatisfy(task -> assertThat(task.getVersion()).isEqualTo(versions.get(task.getId())));
+    }
+
+    @Test
+    @DisplayName("Should keep status counts in step with creates, status changes and deletes")
+    void shouldKeepTaskStatsInStep() throws Exception {
+        // Counters were loaded at startup, before setUp emptied the table
+        taskStatsService.reconcile();
+
+        UUID first = createTestTask("First", "d", TaskStatus.TODO);
+        UUID second = createTestTask("Second", "d", TaskStatus.TODO);
+        createTestTask("Third", "d", TaskStatus.IN_PROGRESS);
+
+        mockMvc.perform(patch("/api/tasks/{id}/status", first)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(new UpdateTaskStatusRequest(TaskStatus.DONE))))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/tasks/{id}", second))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/tasks/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.counts.TODO").value(0))
+                .andExpect(jsonPath("$.counts.IN_PROGRESS").value(1))
+                .andExpect(jsonPath("$.counts.DONE").value(1))
+                .andExpect(jsonPath("$.total").value(2));
+
+        var bulk = BulkUpdateTaskStatusRequest.builder()
+                .fromStatus(TaskStatus.IN_PROGRESS)
+                .status(TaskStatus.DONE)
+                .build();
+        mockMvc.perform(patch("/api/tasks/status")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(bulk)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/tasks/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.counts.IN_PROGRESS").value(0))
+                .andExpect(jsonPath("$.counts.DONE").value(2));
+
+        // Rows changed behind the API's back are picked up by the next reconcile
+        taskRepository.deleteAll();
+        taskStatsService.reconcile();
+
+        mockMvc.perform(get("/api/tasks/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(0));
+    }
+
+    @Test
+    @DisplayName("Should sync changed and deleted tasks since the last token")
+    void shouldSyncTaskChangesSinceToken() throws Exception {
+        UUID first = createTestTask("First", "d", TaskStatus.TODO);
+        UUID second = createTestTask("Second", "d", TaskStatus.TODO);
+        createTestTask("Third", "d", TaskStatus.DONE);
+
+        // Full sync, two pages
+        MvcResult firstPage = mockMvc.perform(get("/api/tasks/changes").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed.length()").value(2))
+                .andExpect(jsonPath("$.deleted").isEmpty())
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andReturn();
+        String next = objectMapper.readValue(firstPage.getResponse().getContentAsString(), TaskChangesResponse.class)
+                .getNext();
+
+        MvcResult lastPage = mockMvc.perform(get("/api/tasks/changes").param("limit", "2").param("since", next))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed.length()").value(1))
+                .andExpect(jsonPath("$.hasMore").value(false))
+                .andReturn();
+        String token = objectMapper.readValue(lastPage.getResponse().getContentAsString(), TaskChangesResponse.class)
+                .getNext();
+
+        // Delta sync returns the updated task and a tombstone for the deleted one
+        var update = UpdateTaskRequest.builder().title("First, renamed").build();
+        mockMvc.perform(put("/api/tasks/{id}", first)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/tasks/{id}", second))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/tasks/changes").param("since", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed[*].title").value(org.hamcrest.Matchers.hasItem("First, renamed")))
+                .andExpect(jsonPath("$.deleted").value(org.hamcrest.Matchers.hasItem(second.toString())))
+                .andExpect(jsonPath("$.hasMore").value(false));
+
+        // Once the tombstone is compacted away the old token can no longer be served
+        assertThat(taskSyncService.compactTombstones(Duration.ZERO)).isPositive();
+
+        mockMvc.perform(get("/api/tasks/changes").param("since", token))
+                .andExpect(status().isGone());
+
+        mockMvc.perform(get("/api/tasks/changes").param("since", "not-a-token"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("Should return 404 when deleting non-existent task")
     void shouldReturn404WhenDeletingNonExistentTask() throws Exception {
@@ -267,6 +889,87 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.message").value("Task not found with ID: " + nonExistentId));
     }
 
+    @Test
+    @DisplayName("Should honor If-Match and return 412 for a stale version")
+    void shouldRejectStaleIfMatchWith412() throws Exception {
+        UUID taskId = createTestTask("Versioned Task", "v0", TaskStatus.TODO);
+
+        mockMvc.perform(get("/api/tasks/{id}", taskId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"0\""))
+                .andExpect(jsonPath("$.version").value(0));
+
+        var firstWriter = UpdateTaskRequest.builder().title("First writer").build();
+        mockMvc.perform(put("/api/tasks/{id}", taskId)
+                                .header("If-Match", "W/\"0\"")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(firstWriter)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"1\""))
+                .andExpect(jsonPath("$.version").value(1));
+
+        var secondWriter = UpdateTaskRequest.builder().title("Second writer").build();
+        mockMvc.perform(put("/api/tasks/{id}", taskId)
+                                .header("If-Match", "\"0\"")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(secondWriter)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.error").value("Precondition Failed"));
+
+        var statusRequest = UpdateTaskStatusRequest.builder().status(TaskStatus.DONE).build();
+        mockMvc.perform(patch("/api/tasks/{id}/status", taskId)
+                                .header("If-Match", "\"0\"")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(statusRequest)))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(patch("/api/tasks/{id}/status", taskId)
+                                .header("If-Match", "\"1\"")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(statusRequest)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "W/\"2\""));
+
+        var task = taskRepository.findById(taskId).orElseThrow();
+        assertThat(task.getTitle()).isEqualTo("First writer");
+        assertThat(task.getStatus()).isEqualTo(TaskStatus.DONE);
+        assertThat(task.getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Should return 404 when updating non-existent task")
+    void shouldReturn404WhenUpdatingNonExistentTask() throws Exception {
+        UUID nonExistentId = UUID.randomUUID();
+        var updateRequest = UpdateTaskRequest.builder()
+                .title("Updated Title")
+                .build();
+
+        mockMvc.perform(put("/api/tasks/{id}", nonExistentId)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(updateRequest)))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Task not found with ID: " + nonExistentId))
+                .andExpect(jsonPath("$.error").value("Task Not Found"))
+                .andExpect(jsonPath("$.status").value(404));
+    }
+
+    @Test
+    @DisplayName("Should return 404 when deleting a task twice")
+    void shouldReturn404WhenDeletingTaskTwice() throws Exception {
+        UUID taskId = createTestTask("Delete Me", "Gone soon", TaskStatus.TODO);
+
+        mockMvc.perform(delete("/api/tasks/{id}", taskId))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(delete("/api/tasks/{id}", taskId))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Task not found with ID: " + taskId))
+                .andExpect(jsonPath("$.error").value("Task Not Found"))
+                .andExpect(jsonPath("$.status").value(404));
+
+        assertThat(taskRepository.existsById(taskId)).isFalse();
+    }
+
     @Test
     @DisplayName("Should handle complete CRUD workflow")
     @Transactional
@@ -332,6 +1035,13 @@ class TaskControllerTest {
     /**
      * Helper method to create a test task and return its ID
      */
+    private static RequestPostProcessor remoteAddr(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+
     private UUID createTestTask(String title, String description, TaskStatus status) throws Exception {
         var createRequest = CreateTaskRequest.builder()
                 .title(title)
@@ -0,0 +1,139 @@
+package com.taskmanager.task_manager_api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskmanager.task_manager_api.event.TaskChangedEvent;
+import com.taskmanager.task_manager_api.json.CachedTaskResponseSerializer;
+import com.taskmanager.task_manager_api.json.TaskJsonCache;
+import com.taskmanager.task_manager_api.json.TaskJsonCacheModule;
+import com.taskmanager.task_manager_api.model.Enum.TaskStatus;
+import com.taskmanager.task_manager_api.model.dto.TaskPageResponse;
+import com.taskmanager.task_manager_api.model.dto.TaskResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for TaskJsonCache and the serializer that writes from it
+ */
+@DisplayName("Task JSON Cache Tests")
+class TaskJsonCacheTest {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 1, 15, 9, 30, 15, 123_456_000);
+
+    private TaskJsonCache cache;
+    private ObjectMapper cachingMapper;
+    private ObjectMapper plainMapper;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TaskJsonCache(1024 * 1024);
+        cachingMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .modulesToInstall(new TaskJsonCacheModule(cache))
+                .build();
+        plainMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should write the same JSON as Jackson and serve repeats from the cache")
+    void shouldWriteCachedBytesIdenticalToJackson() throws Exception {
+        // Given
+        var first = task(UUID.randomUUID(), 0L, "First");
+        var second = task(UUID.randomUUID(), 3L, "Second \"quoted\" é");
+        var page = new TaskPageResponse(List.of(first, second), "next");
+        var expected = new String(plainMapper.writeValueAsBytes(page), StandardCharsets.UTF_8);
+
+        // When
+        var cold = json(page);
+        var warm = json(page);
+
+        // Then
+        assertThat(cold).isEqualTo(expected);
+        assertThat(warm).isEqualTo(expected);
+        assertThat(cache.get(second.getId(), 3L, UPDATED_AT)).isNotNull();
+        assertThat(cache.weightedSize()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should never serve bytes encoded from another version of the task")
+    void shouldReencodeChangedVersion() throws Exception {
+        // Given
+        var id = UUID.randomUUID();
+        json(task(id, 1L, "Before"));
+
+        // When
+        var written = json(task(id, 2L, "After"));
+
+        // Then
+        assertThat(written).contains("\"title\":\"After\"");
+        assertThat(cache.get(id, 1L, UPDATED_AT)).isNull();
+        assertThat(cache.get(id, 2L, UPDATED_AT)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Should evict a task on change and everything on a bulk change")
+    void shouldEvictOnTaskChanges() throws Exception {
+        // Given
+        var deleted = task(UUID.randomUUID(), 0L, "Deleted");
+        var kept = task(UUID.randomUUID(), 0L, "Kept");
+        json(List.of(deleted, kept));
+
+        // When
+        cache.onTaskChanged(TaskChangedEvent.deleted(deleted.getId(), TaskStatus.TODO));
+
+        // Then
+        assertThat(cache.get(deleted.getId(), 0L, UPDATED_AT)).isNull();
+        assertThat(cache.get(kept.getId(), 0L, UPDATED_AT)).isNotNull();
+
+        // When
+        cache.onTaskChanged(TaskChangedEvent.bulkStatusChanged(TaskStatus.TODO, TaskStatus.DONE, 1));
+
+        // Then
+        assertThat(cache.get(kept.getId(), 0L, UPDATED_AT)).isNull();
+    }
+
+    @Test
+    @DisplayName("Should leave the cache alone for writers that bypass it")
+    void shouldBypassCacheForMarkedWriters() throws Exception {
+        // Given
+        var task = task(UUID.randomUUID(), 0L, "Exported");
+        var writer = cachingMapper.writerFor(TaskResponse.class)
+                .withAttribute(CachedTaskResponseSerializer.BYPASS_CACHE, Boolean.TRUE);
+
+        // When
+        var written = new String(writer.writeValueAsBytes(task), StandardCharsets.UTF_8);
+
+        // Then
+        assertThat(written).isEqualTo(new String(plainMapper.writeValueAsBytes(task), StandardCharsets.UTF_8));
+        assertThat(cache.get(task.getId(), 0L, UPDATED_AT)).isNull();
+        assertThat(cache.weightedSize()).isZero();
+    }
+
+    // Byte output, as the HTTP message converters use; only UTF-8 generators write from the cache
+    private String json(Object value) throws Exception {
+        return new String(cachingMapper.writeValueAsBytes(value), StandardCharsets.UTF_8);
+    }
+
+    private static TaskResponse task(UUID id, long version, String title) {
+        return TaskResponse.builder()
+                .id(id)
+                .title(title)
+                .description("Description of " + title)
+                .status(TaskStatus.IN_PROGRESS)
+                .createdAt(UPDATED_AT.minusDays(1))
+                .updatedAt(UPDATED_AT)
+                .version(version)
+                .build();
+    }
+}
@@ -1,27 +1,43 @@
 package com.taskmanager.task_manager_api;
 
 import com.taskmanager.task_manager_api.model.dto.*;
+import com.taskmanager.task_manager_api.event.TaskChangedEvent;
 import com.taskmanager.task_manager_api.exceptions.TaskNotFoundException;
+import com.taskmanager.task_manager_api.exceptions.TaskVersionConflictException;
+import com.taskmanager.task_manager_api.model.Enum.TaskSort;
 import com.taskmanager.task_manager_api.model.Enum.TaskStatus;
 import com.taskmanager.task_manager_api.model.entity.Task;
+import com.taskmanager.task_manager_api.repository.TaskPageQuery;
 import com.taskmanager.task_manager_api.repository.TaskRepository;
+import com.taskmanager.task_manager_api.repository.TaskSearchCursor;
+import com.taskmanager.task_manager_api.repository.TaskUpdate;
+import com.taskmanager.task_manager_api.repository.TaskUpdateResult;
 import com.taskmanager.task_manager_api.service.TaskService;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -34,10 +50,20 @@ class TaskServiceTest {
     @Mock
     private TaskRepository taskRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TaskService taskService;
 
     private Task sampleTask;
+    private TaskResponse sampleResponse;
     private UUID taskId;
     private LocalDateTime fixedTime;
 
@@ -54,6 +80,16 @@ class TaskServiceTest {
                 .createdAt(fixedTime)
                 .updatedAt(fixedTime)
                 .build();
+
+        sampleResponse = TaskResponse.builder()
+                .id(taskId)
+                .title("Test Task")
+                .description("Test Description")
+                .status(TaskStatus.TODO)
+                .createdAt(fixedTime)
+                .updatedAt(fixedTime)
+                .version(0L)
+                .build();
     }
 
     @Test
@@ -89,6 +125,7 @@ class TaskServiceTest {
         assertThat(result.getUpdatedAt()).isEqualTo(fixedTime);
 
         verify(taskRepository, times(1)).save(any(Task.class));
+        verify(eventPublisher).publishEvent(TaskChangedEvent.created(result));
     }
 
     @Test
@@ -121,10 +158,51 @@ class TaskServiceTest {
     }
 
     @Test
-    @DisplayName("Should get all tasks successfully")
+    @DisplayName("Should bulk create tasks and flush in full batches")
+    void shouldBulkCreateTasks() {
+        // Given
+        var requests = IntStream.range(0, 120)
+                .mapToObj(i -> CreateTaskRequest.builder().title("Task " + i).build())
+                .toList();
+        when(taskRepository.save(any(Task.class))).thenAnswer(invocation -> {
+            Task task = invocation.getArgument(0);
+            task.setId(UUID.randomUUID());
+            return task;
+        });
+
+        // When
+        var result = taskService.createTasks(requests);
+
+        // Then
+        assertThat(result.getCreated()).isEqualTo(120);
+        assertThat(result.getRejected()).isZero();
+        assertThat(result.getResults()).hasSize(120)
+                .allSatisfy(item -> assertThat(item.getId()).isNotNull());
+        verify(taskRepository, times(120)).save(any(Task.class));
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    @DisplayName("Should reject empty and oversized bulk requests")
+    void shouldRejectInvalidBulkSizes() {
+        var tooMany = IntStream.range(0, 5_001)
+                .mapToObj(i -> CreateTaskRequest.builder().title("Task " + i).build())
+                .toList();
+
+        assertThatThrownBy(() -> taskService.createTasks(List.of()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> taskService.createTasks(tooMany))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("Should get first page of tasks successfully")
     void shouldGetAllTasksSuccessfully() {
         // Given
-        var task1 = Task.builder()
+        var task1 = TaskResponse.builder()
                 .id(UUID.randomUUID())
                 .title("Task 1")
                 .status(TaskStatus.TODO)
@@ -132,7 +210,7 @@ class TaskServiceTest {
                 .updatedAt(fixedTime)
                 .build();
 
-        var task2 = Task.builder()
+        var task2 = TaskResponse.builder()
                 .id(UUID.randomUUID())
                 .title("Task 2")
                 .status(TaskStatus.IN_PROGRESS)
@@ -140,40 +218,187 @@ class TaskServiceTest {
                 .updatedAt(fixedTime.plusHours(1))
                 .build();
 
-        when(taskRepository.findAll()).thenReturn(Arrays.asList(task1, task2));
+        when(taskRepository.findPage(any(TaskPageQuery.class))).thenReturn(Arrays.asList(task1, task2));
+
+        // When
+        var result = taskService.getTasks(new TaskListRequest());
+
+        // Then
+        assertThat(result.getItems()).hasSize(2);
+        assertThat(result.getItems().get(0).getTitle()).isEqualTo("Task 1");
+        assertThat(result.getItems().get(0).getStatus()).isEqualTo(TaskStatus.TODO);
+        assertThat(result.getItems().get(1).getTitle()).isEqualTo("Task 2");
+        assertThat(result.getItems().get(1).getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(result.getNext()).isNull();
+
+        verify(taskRepository, times(1))
+                .findPage(new TaskPageQuery(null, null, TaskSort.CREATED_AT, null, 51));
+    }
+
+    @Test
+    @DisplayName("Should return next cursor and resume after it")
+    void shouldReturnNextCursorWhenMoreTasksExist() {
+        // Given
+        var task1 = TaskResponse.builder()
+                .id(UUID.randomUUID())
+                .title("Task 1")
+                .status(TaskStatus.TODO)
+                .createdAt(fixedTime)
+                .updatedAt(fixedTime)
+                .build();
+
+        var task2 = TaskResponse.builder()
+                .id(UUID.randomUUID())
+                .title("Task 2")
+                .status(TaskStatus.TODO)
+                .createdAt(fixedTime.plusHours(1))
+                .updatedAt(fixedTime.plusHours(1))
+                .build();
+
+        when(taskRepository.findPage(any(TaskPageQuery.class)))
+                .thenReturn(List.of(task1, task2))
+                .thenReturn(List.of(task2));
 
         // When
-        List<TaskResponse> result = taskService.getAllTasks();
+        var firstPage = taskService.getTasks(TaskListRequest.builder().sort("title").limit(1).build());
+        var secondPage = taskService.getTasks(TaskListRequest.builder()
+                .sort("title")
+                .limit(1)
+                .cursor(firstPage.getNext())
+                .build());
 
         // Then
-        assertThat(result).hasSize(2);
-        assertThat(result.get(0).getTitle()).isEqualTo("Task 1");
-        assertThat(result.get(0).getStatus()).isEqualTo(TaskStatus.TODO);
-        assertThat(result.get(1).getTitle()).isEqualTo("Task 2");
-        assertThat(result.get(1).getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
+        assertThat(firstPage.getItems()).extracting(TaskResponse::getTitle).containsExactly("Task 1");
+        assertThat(firstPage.getNext()).isNotBlank();
+        assertThat(secondPage.getItems()).extracting(TaskResponse::getTitle).containsExactly("Task 2");
+        assertThat(secondPage.getNext()).isNull();
+
+        var captor = ArgumentCaptor.forClass(TaskPageQuery.class);
+        verify(taskRepository, times(2)).findPage(captor.capture());
+        var resumed = captor.getAllValues().get(1).after();
+        assertThat(resumed.sort()).isEqualTo(TaskSort.TITLE);
+        assertThat(resumed.id()).isEqualTo(task1.getId());
+        assertThat(resumed.title()).isEqualTo("Task 1");
+    }
+
+    @Test
+    @DisplayName("Should pass status filter, title prefix and sort to the repository")
+    void shouldPassFiltersToRepository() {
+        // Given
+        when(taskRepository.findPage(any(TaskPageQuery.class))).thenReturn(List.of());
+        var request = TaskListRequest.builder()
+                .status(TaskStatus.IN_PROGRESS)
+                .q("  Deploy ")
+                .sort("status")
+                .build();
+
+        // When
+        taskService.getTasks(request);
 
-        verify(taskRepository, times(1)).findAll();
+        // Then
+        verify(taskRepository).findPage(
+                new TaskPageQuery(TaskStatus.IN_PROGRESS, "Deploy", TaskSort.STATUS, null, 51));
     }
 
     @Test
-    @DisplayName("Should return empty list when no tasks exist")
+    @DisplayName("Should return empty page when no tasks exist")
     void shouldReturnEmptyListWhenNoTasks() {
         // Given
-        when(taskRepository.findAll()).thenReturn(List.of());
+        when(taskRepository.findPage(any(TaskPageQuery.class))).thenReturn(List.of());
+
+        // When
+        var result = taskService.getTasks(new TaskListRequest());
+
+        // Then
+        assertThat(result.getItems()).isEmpty();
+        assertThat(result.getNext()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should cap page size at the maximum")
+    void shouldCapPageSize() {
+        // Given
+        when(taskRepository.findPage(any(TaskPageQuery.class))).thenReturn(List.of());
+
+        // When
+        taskService.getTasks(TaskListRequest.builder().limit(10_000).build());
+
+        // Then
+        verify(taskRepository).findPage(new TaskPageQuery(null, null, TaskSort.CREATED_AT, null, 201));
+    }
+
+    @Test
+    @DisplayName("Should reject malformed cursor and unknown sort")
+    void shouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> taskService.getTasks(TaskListRequest.builder().cursor("not-a-cursor").build()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> taskService.getTasks(TaskListRequest.builder().sort("priority").build()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unsupported sort: priority");
+
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("Should search with the stripped query and resume from the next cursor")
+    void shouldSearchTasks() {
+        // Given
+        when(taskRepository.search(eq("deploy"), anyInt(), anyInt()))
+                .thenReturn(List.of(sampleResponse, sampleResponse))
+                .thenReturn(List.of(sampleResponse));
+
+        // When
+        var firstPage = taskService.searchTasks(TaskSearchRequest.builder().q("  deploy ").limit(1).build());
+        var secondPage = taskService.searchTasks(TaskSearchRequest.builder()
+                .q("deploy")
+                .limit(1)
+                .cursor(firstPage.getNext())
+                .build());
+
+        // Then
+        assertThat(firstPage.getItems()).hasSize(1);
+        assertThat(firstPage.getNext()).isNotBlank();
+        assertThat(secondPage.getItems()).hasSize(1);
+        assertThat(secondPage.getNext()).isNull();
+
+        verify(taskRepository).search("deploy", 0, 2);
+        verify(taskRepository).search("deploy", 1, 2);
+    }
+
+    @Test
+    @DisplayName("Should reject blank search queries and searches past the maximum depth")
+    void shouldRejectInvalidSearch() {
+        assertThatThrownBy(() -> taskService.searchTasks(TaskSearchRequest.builder().q("   ").build()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Search query cannot be blank");
+        var tooDeep = new TaskSearchCursor(1_000).encode();
+        assertThatThrownBy(() -> taskService.searchTasks(TaskSearchRequest.builder().q("deploy").cursor(tooDeep).build()))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("Should stream every projected task to the consumer")
+    void shouldExportTasks() {
+        // Given
+        when(taskRepository.streamAllForExport()).thenReturn(Stream.of(sampleResponse));
+        var exported = new ArrayList<TaskResponse>();
 
         // When
-        var result = taskService.getAllTasks();
+        var count = taskService.exportTasks(exported::add);
 
         // Then
-        assertThat(result).isEmpty();
-        verify(taskRepository, times(1)).findAll();
+        assertThat(count).isEqualTo(1);
+        assertThat(exported).extracting(TaskResponse::getId).containsExactly(taskId);
+        verifyNoInteractions(entityManager);
     }
 
     @Test
     @DisplayName("Should get task by ID successfully")
     void shouldGetTaskByIdSuccessfully() {
         // Given
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(sampleTask));
+        when(taskRepository.findResponseById(taskId)).thenReturn(Optional.of(sampleResponse));
 
         // When
         var result = taskService.getTaskById(taskId);
@@ -185,21 +410,22 @@ class TaskServiceTest {
         assertThat(result.getDescription()).isEqualTo("Test Description");
         assertThat(result.getStatus()).isEqualTo(TaskStatus.TODO);
 
-        verify(taskRepository, times(1)).findById(taskId);
+        verify(taskRepository, times(1)).findResponseById(taskId);
+        verify(taskRepository, never()).findById(any());
     }
 
     @Test
     @DisplayName("Should throw TaskNotFoundException when task not found by ID")
     void shouldThrowExceptionWhenTaskNotFoundById() {
         // Given
-        when(taskRepository.findById(taskId)).thenReturn(Optional.empty());
+        when(taskRepository.findResponseById(taskId)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> taskService.getTaskById(taskId))
                 .isInstanceOf(TaskNotFoundException.class)
                 .hasMessage("Task not found with ID: " + taskId);
 
-        verify(taskRepository, times(1)).findById(taskId);
+        verify(taskRepository, times(1)).findResponseById(taskId);
     }
 
     @Test
@@ -220,11 +446,11 @@ class TaskServiceTest {
                 .updatedAt(fixedTime.plusMinutes(30))
                 .build();
 
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(sampleTask));
-        when(taskRepository.save(any(Task.class))).thenReturn(updatedTask);
+        when(taskRepository.updateReturning(taskId, new TaskUpdate("Updated Title", "Updated Description", null, null)))
+                .thenReturn(Optional.of(new TaskUpdateResult(updatedTask, TaskStatus.TODO)));
 
         // When
-        var result = taskService.updateTask(taskId, updateRequest);
+        var result = taskService.updateTask(taskId, updateRequest, null);
 
         // Then
         assertThat(result).isNotNull();
@@ -232,8 +458,8 @@ class TaskServiceTest {
         assertThat(result.getDescription()).isEqualTo("Updated Description");
         assertThat(result.getStatus()).isEqualTo(TaskStatus.TODO); // Status unchanged
 
-        verify(taskRepository, times(1)).findById(taskId);
-        verify(taskRepository, times(1)).save(any(Task.class));
+        verify(taskRepository, never()).findById(any());
+        verify(taskRepository, never()).save(any());
     }
 
     @Test
@@ -241,21 +467,19 @@ class TaskServiceTest {
     void shouldUpdateOnlyTitleWhenDescriptionIsNull() {
         // Given
         var updateRequest = UpdateTaskRequest.builder()
-                .title("Only Title Updated")
+                .title("  Only Title Updated ")
                 .description(null) // Null description should not update
                 .build();
 
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(sampleTask));
-        when(taskRepository.save(any(Task.class))).thenReturn(sampleTask);
+        when(taskRepository.updateReturning(eq(taskId), any(TaskUpdate.class)))
+                .thenReturn(Optional.of(new TaskUpdateResult(sampleTask, TaskStatus.TODO)));
 
         // When
-        taskService.updateTask(taskId, updateRequest);
+        taskService.updateTask(taskId, updateRequest, null);
 
         // Then
-        verify(taskRepository, times(1)).save(argThat(task ->
-                                                              task.getTitle().equals("Only Title Updated") &&
-                                                                      task.getDescription().equals("Test Description") // Original description preserved
-                                                     ));
+        verify(taskRepository, times(1))
+                .updateReturning(taskId, new TaskUpdate("Only Title Updated", null, null, null));
     }
 
     @Test
@@ -267,17 +491,15 @@ class TaskServiceTest {
                 .description("Updated Description")
                 .build();
 
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(sampleTask));
-        when(taskRepository.save(any(Task.class))).thenReturn(sampleTask);
+        when(taskRepository.updateReturning(eq(taskId), any(TaskUpdate.class)))
+                .thenReturn(Optional.of(new TaskUpdateResult(sampleTask, TaskStatus.TODO)));
 
         // When
-        taskService.updateTask(taskId, updateRequest);
+        taskService.updateTask(taskId, updateRequest, null);
 
         // Then
-        verify(taskRepository, times(1)).save(argThat(task ->
-                                                              task.getTitle().equals("Test Task") && // Original title preserved
-                                                                      task.getDescription().equals("Updated Description")
-                                                     ));
+        verify(taskRepository, times(1))
+                .updateReturning(taskId, new TaskUpdate(null, "Updated Description", null, null)); // Original title preserved
     }
 
     @Test
@@ -288,15 +510,50 @@ class TaskServiceTest {
                 .title("Updated Title")
                 .build();
 
-        when(taskRepository.findById(taskId)).thenReturn(Optional.empty());
+        when(taskRepository.updateReturning(eq(taskId), any(TaskUpdate.class))).thenReturn(Optional.empty());
 
         // When & Then
-        assertThatThrownBy(() -> taskService.updateTask(taskId, updateRequest))
+        assertThatThrownBy(() -> taskService.updateTask(taskId, updateRequest, null))
                 .isInstanceOf(TaskNotFoundException.class)
                 .hasMessage("Task not found with ID: " + taskId);
 
-        verify(taskRepository, times(1)).findById(taskId);
-        verify(taskRepository, never()).save(any());
+        verify(taskRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Should throw version conflict when the expected version is stale")
+    void shouldThrowVersionConflictWhenVersionIsStale() {
+        // Given
+        var updateRequest = UpdateTaskRequest.builder()
+                .title("Updated Title")
+                .build();
+
+        when(taskRepository.updateReturning(taskId, new TaskUpdate("Updated Title", null, null, 3L)))
+                .thenReturn(Optional.empty());
+        when(taskRepository.existsById(taskId)).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.updateTask(taskId, updateRequest, 3L))
+                .isInstanceOf(TaskVersionConflictException.class);
+
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should report not found rather than conflict when a versioned update targets a missing task")
+    void shouldThrowNotFoundForVersionedUpdateOfMissingTask() {
+        // Given
+        var statusRequest = UpdateTaskStatusRequest.builder()
+                .status(TaskStatus.DONE)
+                .build();
+
+        when(taskRepository.updateReturning(eq(taskId), any(TaskUpdate.class))).thenReturn(Optional.empty());
+        when(taskRepository.existsById(taskId)).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> taskService.updateTaskStatus(taskId, statusRequest, 0L))
+                .isInstanceOf(TaskNotFoundException.class)
+                .hasMessage("Task not found with ID: " + taskId);
     }
 
     @Test
@@ -316,19 +573,21 @@ class TaskServiceTest {
                 .updatedAt(fixedTime.plusMinutes(15))
                 .build();
 
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(sampleTask));
-        when(taskRepository.save(any(Task.class))).thenReturn(updatedTask);
+        when(taskRepository.updateReturning(taskId, new TaskUpdate(null, null, TaskStatus.IN_PROGRESS, null)))
+                .thenReturn(Optional.of(new TaskUpdateResult(updatedTask, TaskStatus.TODO)));
 
         // When
-        var result = taskService.updateTaskStatus(taskId, statusRequest);
+        var result = taskService.updateTaskStatus(taskId, statusRequest, null);
 
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getStatus()).isEqualTo(TaskStatus.IN_PROGRESS);
         assertThat(result.getTitle()).isEqualTo("Test Task"); // Other fields unchanged
 
-        verify(taskRepository, times(1)).findById(taskId);
-        verify(taskRepository, times(1)).save(any(Task.class));
+        verify(taskRepository, never()).findById(any());
+        verify(taskRepository, never()).save(any());
+        verify(eventPublisher).publishEvent(
+                TaskChangedEvent.updated(TaskChangedEvent.Type.STATUS_CHANGED, result, TaskStatus.TODO));
     }
 
     @Test
@@ -340,12 +599,11 @@ class TaskServiceTest {
                 .build();
 
         // When & Then
-        assertThatThrownBy(() -> taskService.updateTaskStatus(taskId, statusRequest))
+        assertThatThrownBy(() -> taskService.updateTaskStatus(taskId, statusRequest, null))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Task status cannot be null");
 
-        verify(taskRepository, never()).findById(any());
-        verify(taskRepository, never()).save(any());
+        verifyNoInteractions(taskRepository);
     }
 
     @Test
@@ -356,44 +614,111 @@ class TaskServiceTest {
                 .status(TaskStatus.DONE)
                 .build();
 
-        when(taskRepository.findById(taskId)).thenReturn(Optional.empty());
+        when(taskRepository.updateReturning(eq(taskId), any(TaskUpdate.class))).thenReturn(Optional.empty());
 
         // When & Then
-        assertThatThrownBy(() -> taskService.updateTaskStatus(taskId, statusRequest))
+        assertThatThrownBy(() -> taskService.updateTaskStatus(taskId, statusRequest, null))
                 .isInstanceOf(TaskNotFoundException.class)
                 .hasMessage("Task not found with ID: " + taskId);
 
-        verify(taskRepository, times(1)).findById(taskId);
+        verify(taskRepository, times(1)).updateReturning(eq(taskId), any(TaskUpdate.class));
+        verify(taskRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Should bulk update status by ids with one statement")
+    void shouldBulkUpdateStatusByIds() {
+        // Given
+        var ids = List.of(taskId, UUID.randomUUID());
+        var request = BulkUpdateTaskStatusRequest.builder()
+                .ids(ids)
+                .status(TaskStatus.DONE)
+                .build();
+        when(taskRepository.updateStatusByIdIn(eq(ids), eq(TaskStatus.DONE), any(LocalDateTime.class)))
+                .thenReturn(Map.of(TaskStatus.TODO, 1, TaskStatus.IN_PROGRESS, 1));
+
+        // When
+        var result = taskService.updateTaskStatuses(request);
+
+        // Then
+        assertThat(result.getUpdated()).isEqualTo(2);
+        verify(eventPublisher).publishEvent(TaskChangedEvent.bulkStatusChanged(TaskStatus.TODO, TaskStatus.DONE, 1));
+        verify(eventPublisher).publishEvent(
+                TaskChangedEvent.bulkStatusChanged(TaskStatus.IN_PROGRESS, TaskStatus.DONE, 1));
+        verify(taskRepository, never()).findById(any());
         verify(taskRepository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("Should bulk update status by current status")
+    void shouldBulkUpdateStatusByFromStatus() {
+        // Given
+        var request = BulkUpdateTaskStatusRequest.builder()
+                .fromStatus(TaskStatus.IN_PROGRESS)
+                .status(TaskStatus.DONE)
+                .build();
+        when(taskRepository.updateStatusByStatus(eq(TaskStatus.IN_PROGRESS), eq(TaskStatus.DONE),
+                any(LocalDateTime.class))).thenReturn(7);
+
+        // When
+        var result = taskService.updateTaskStatuses(request);
+
+        // Then
+        assertThat(result.getUpdated()).isEqualTo(7);
+        verify(eventPublisher).publishEvent(
+                TaskChangedEvent.bulkStatusChanged(TaskStatus.IN_PROGRESS, TaskStatus.DONE, 7));
+    }
+
+    @Test
+    @DisplayName("Should require exactly one bulk status selector")
+    void shouldRequireExactlyOneBulkSelector() {
+        var both = BulkUpdateTaskStatusRequest.builder()
+                .ids(List.of(taskId))
+                .fromStatus(TaskStatus.TODO)
+                .status(TaskStatus.DONE)
+                .build();
+        var neither = BulkUpdateTaskStatusRequest.builder()
+                .status(TaskStatus.DONE)
+                .build();
+
+        assertThatThrownBy(() -> taskService.updateTaskStatuses(both))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Provide either ids or fromStatus");
+        assertThatThrownBy(() -> taskService.updateTaskStatuses(neither))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Provide either ids or fromStatus");
+
+        verifyNoInteractions(taskRepository);
+    }
+
     @Test
     @DisplayName("Should delete task successfully")
     void shouldDeleteTaskSuccessfully() {
         // Given
-        when(taskRepository.findById(taskId)).thenReturn(Optional.of(sampleTask));
-        doNothing().when(taskRepository).delete(sampleTask);
+        when(taskRepository.deleteReturningStatus(taskId)).thenReturn(Optional.of(TaskStatus.DONE));
 
         // When
         taskService.deleteTask(taskId);
 
         // Then
-        verify(taskRepository, times(1)).findById(taskId);
-        verify(taskRepository, times(1)).delete(sampleTask);
+        verify(taskRepository, times(1)).deleteReturningStatus(taskId);
+        verify(taskRepository, never()).findById(any());
+        verify(eventPublisher).publishEvent(TaskChangedEvent.deleted(taskId, TaskStatus.DONE));
     }
 
     @Test
     @DisplayName("Should throw exception when deleting non-existent task")
     void shouldThrowExceptionWhenDeletingNonExistentTask() {
         // Given
-        when(taskRepository.findById(taskId)).thenReturn(Optional.empty());
+        when(taskRepository.deleteReturningStatus(taskId)).thenReturn(Optional.empty());
 
         // When & Then
         assertThatThrownBy(() -> taskService.deleteTask(taskId))
                 .isInstanceOf(TaskNotFoundException.class)
                 .hasMessage("Task not found with ID: " + taskId);
 
-        verify(taskRepository, times(1)).findById(taskId);
-        verify(taskRepository, never()).delete(any());
+        verify(taskRepository, times(1)).deleteReturningStatus(taskId);
+        verify(taskRepository, never()).findById(any());
+        verifyNoInteractions(eventPublisher);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,94 @@
+package com.taskmanager.task_manager_api;
+
+import com.taskmanager.task_manager_api.event.TaskChangedEvent;
+import com.taskmanager.task_manager_api.model.Enum.TaskStatus;
+import com.taskmanager.task_manager_api.repository.TaskRepository;
+import com.taskmanager.task_manager_api.repository.TaskStatusCount;
+import com.taskmanager.task_manager_api.service.TaskStatsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for TaskStatsService counters racing a reconcile
+ */
+@DisplayName("Task Stats Service Tests")
+class TaskStatsServiceTest {
+
+    private TaskRepository taskRepository;
+    private TaskStatsService taskStatsService;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = mock(TaskRepository.class);
+        taskStatsService = new TaskStatsService(taskRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should not count a committed change twice when reconcile runs before its callback")
+    void shouldNotDoubleCountChangeCommittedDuringReconcile() {
+        // Given a delete whose transaction has committed but whose after-commit callback has not run yet
+        when(taskRepository.countGroupByStatus()).thenReturn(List.of(count(TaskStatus.TODO, 1)));
+        taskStatsService.reconcile();
+        TransactionSynchronizationManager.initSynchronization();
+        taskStatsService.onTaskChanged(TaskChangedEvent.deleted(UUID.randomUUID(), TaskStatus.TODO));
+        when(taskRepository.countGroupByStatus()).thenReturn(List.of());
+
+        // When
+        taskStatsService.reconcile();
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // Then
+        assertThat(taskStatsService.getStats().getCounts().get(TaskStatus.TODO)).isZero();
+        assertThat(taskStatsService.getStats().getTotal()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drop changes from rolled back transactions")
+    void shouldIgnoreRolledBackChanges() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        taskStatsService.onTaskChanged(TaskChangedEvent.bulkStatusChanged(null, TaskStatus.DONE, 3));
+
+        // When
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // Then
+        assertThat(taskStatsService.getStats().getTotal()).isZero();
+    }
+
+    private static TaskStatusCount count(TaskStatus status, long count) {
+        return new TaskStatusCount() {
+            @Override
+            public TaskStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public long getCount() {
+                return count;
+            }
+        };
+    }
+}
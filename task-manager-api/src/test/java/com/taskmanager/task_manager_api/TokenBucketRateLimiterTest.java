@@ -0,0 +1,118 @@
+package com.taskmanager.task_manager_api;
+
+import com.taskmanager.task_manager_api.ratelimit.RateLimitProperties;
+import com.taskmanager.task_manager_api.ratelimit.TaskEndpoint;
+import com.taskmanager.task_manager_api.ratelimit.TokenBucketRateLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for TokenBucketRateLimiter
+ */
+@DisplayName("Token Bucket Rate Limiter Tests")
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+    private TokenBucketRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        // 10 tokens per second, bursts of up to 20
+        var properties = new RateLimitProperties(10, 20, 1_000, Duration.ofMinutes(10), null);
+        limiter = new TokenBucketRateLimiter(properties, clock::get);
+    }
+
+    @Test
+    @DisplayName("Should admit a full burst and then report the wait for the next token")
+    void shouldAdmitBurstThenReject() {
+        // When
+        for (int i = 0; i < 20; i++) {
+            assertThat(limiter.tryAcquire("client", 1)).isZero();
+        }
+        var wait = limiter.tryAcquire("client", 1);
+
+        // Then
+        assertThat(wait).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    @DisplayName("Should charge the endpoint cost and refill at the configured rate")
+    void shouldChargeCostAndRefill() {
+        // Given
+        assertThat(limiter.tryAcquire("client", 20)).isZero();
+        assertThat(limiter.tryAcquire("client", 5)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(500));
+
+        // When
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+
+        // Then
+        assertThat(limiter.tryAcquire("client", 5)).isZero();
+        assertThat(limiter.tryAcquire("client", 1)).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should cap default costs at the capacity and reject explicit costs above it")
+    void shouldCapDefaultCostsAtCapacity() {
+        // Given
+        var properties = new RateLimitProperties(10, 20, 1_000, Duration.ofMinutes(10), null);
+
+        // Then
+        assertThat(properties.cost(TaskEndpoint.EXPORT)).isEqualTo(20);
+        assertThat(properties.cost(TaskEndpoint.LIST)).isEqualTo(5);
+        assertThatThrownBy(() -> new RateLimitProperties(10, 20, 1_000, Duration.ofMinutes(10),
+                                                         Map.of(TaskEndpoint.EXPORT, 21)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should keep clients independent")
+    void shouldKeepClientsIndependent() {
+        // Given
+        assertThat(limiter.tryAcquire("noisy", 20)).isZero();
+
+        // When & Then
+        assertThat(limiter.tryAcquire("noisy", 1)).isPositive();
+        assertThat(limiter.tryAcquire("quiet", 1)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should never admit more than the burst under concurrent callers")
+    void shouldNotOverAdmitUnderContention() throws Exception {
+        // Given
+        var admitted = new AtomicInteger();
+        List<Future<?>> workers = new ArrayList<>();
+
+        // When
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < 16; worker++) {
+                workers.add(executor.submit(() -> {
+                    for (int i = 0; i < 100; i++) {
+                        if (limiter.tryAcquire("shared", 1) == 0) {
+                            admitted.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (var future : workers) {
+                future.get();
+            }
+        }
+
+        // Then
+        assertThat(admitted).hasValue(20);
+    }
+}
@@ -0,0 +1,78 @@
+package com.taskmanager.task_manager_api;
+
+import com.taskmanager.task_manager_api.model.entity.UuidV7Generator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for UuidV7Generator
+ */
+@DisplayName("UUIDv7 Generator Tests")
+class UuidV7GeneratorTest {
+
+    @Test
+    @DisplayName("Should produce RFC 9562 version 7 ids carrying the current time")
+    void shouldProduceVersion7Ids() {
+        // Given
+        var before = System.currentTimeMillis();
+
+        // When
+        var id = UuidV7Generator.next();
+
+        // Then
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(id.getMostSignificantBits() >>> 16).isBetween(before, System.currentTimeMillis() + 1);
+        assertThat(UUID.fromString(id.toString())).isEqualTo(id);
+    }
+
+    @Test
+    @DisplayName("Should issue strictly increasing ids within the same millisecond")
+    void shouldBeMonotonic() {
+        // Given
+        var previous = UuidV7Generator.next();
+
+        // When & Then
+        for (int i = 0; i < 100_000; i++) {
+            var next = UuidV7Generator.next();
+            assertThat(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()))
+                    .isPositive();
+            previous = next;
+        }
+    }
+
+    @Test
+    @DisplayName("Should stay unique across concurrent callers")
+    void shouldBeUniqueAcrossThreads() throws Exception {
+        // Given
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        List<Future<?>> workers = new ArrayList<>();
+
+        // When
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < 16; worker++) {
+                workers.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        ids.add(UuidV7Generator.next());
+                    }
+                }));
+            }
+            for (var future : workers) {
+                future.get();
+            }
+        }
+
+        // Then
+        assertThat(ids).hasSize(160_000);
+    }
+}
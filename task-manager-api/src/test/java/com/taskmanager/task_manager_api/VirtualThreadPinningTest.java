@@ -0,0 +1,127 @@
+package com.taskmanager.task_manager_api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.task_manager_api.model.Enum.TaskStatus;
+import com.taskmanager.task_manager_api.model.dto.CreateTaskRequest;
+import com.taskmanager.task_manager_api.model.dto.TaskResponse;
+import com.taskmanager.task_manager_api.model.dto.UpdateTaskStatusRequest;
+import com.taskmanager.task_manager_api.repository.TaskRepository;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Drives the Hibernate and JDBC code paths from many virtual threads at once,
+ * with more callers than pooled connections, and fails on any jdk.VirtualThreadPinned event
+ */
+@SpringBootTest(properties = {"spring.threads.virtual.enabled=true", "spring.datasource.hikari.maximum-pool-size=4"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Virtual Thread Pinning Tests")
+class VirtualThreadPinningTest {
+
+    private static final int CALLERS = 64;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should not pin carrier threads while handling requests on virtual threads")
+    void shouldNotPinCarrierThreads() throws Exception {
+        List<String> pinned = new CopyOnWriteArrayList<>();
+
+        try (var recording = new RecordingStream()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO).withStackTrace();
+            recording.onEvent("jdk.VirtualThreadPinned", event -> pinned.add(describe(event)));
+            recording.startAsync();
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> calls = new ArrayList<>();
+                for (int i = 0; i < CALLERS; i++) {
+                    int n = i;
+                    calls.add(executor.submit(() -> {
+                        exerciseTaskLifecycle(n);
+                        return null;
+                    }));
+                }
+                for (Future<?> call : calls) {
+                    call.get();
+                }
+            }
+
+            // stop() flushes the remaining events to the handler before returning
+            recording.stop();
+        }
+
+        assertThat(pinned).as("pinned virtual threads").isEmpty();
+    }
+
+    private void exerciseTaskLifecycle(int n) throws Exception {
+        var createRequest = CreateTaskRequest.builder()
+                .title("Pinning Task " + n)
+                .status(TaskStatus.TODO)
+                .build();
+
+        String body = mockMvc.perform(post("/api/tasks")
+                                              .contentType(MediaType.APPLICATION_JSON)
+                                              .content(objectMapper.writeValueAsString(createRequest)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        TaskResponse created = objectMapper.readValue(body, TaskResponse.class);
+
+        mockMvc.perform(get("/api/tasks").param("limit", "20"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(patch("/api/tasks/{id}/status", created.getId())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(new UpdateTaskStatusRequest(TaskStatus.DONE))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(delete("/api/tasks/{id}", created.getId()))
+                .andExpect(status().isNoContent());
+    }
+
+    private static String describe(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return event.toString();
+        }
+        return event.getStackTrace().getFrames().stream()
+                .limit(12)
+                .map(RecordedFrame::getMethod)
+                .map(method -> method.getType().getName() + "." + method.getName())
+                .collect(Collectors.joining(" <- "));
+    }
+}
@@ -1,5 +1,5 @@
 import axios from "axios";
-import type { Task, Status } from "../types/task";
+import type { Task, Status, TaskPage, TaskQuery, TaskStats } from "../types/task";
 import type { CreateTaskRequest, UpdateTaskRequest } from "../types/request";
 export class TaskService {
     private static instance: TaskService | null = null;
@@ -13,11 +13,25 @@ export class TaskService {
         return TaskService.instance;
     }
 
-    async getAllTasks(): Promise<Task[]>{
-        const response = await axios.get<Task[]>(this.baseUrl)
+    async getTaskPage(query: TaskQuery = {}, cursor?: string, limit: number = 200): Promise<TaskPage> {
+        const response = await axios.get<TaskPage>(this.baseUrl, { params: { ...query, cursor, limit } });
         return response.data;
     }
 
+    async searchTasks(q: string, cursor?: string, limit: number = 50): Promise<TaskPage> {
+        const response = await axios.get<TaskPage>(`${this.baseUrl}/search`, { params: { q, cursor, limit } });
+        return response.data;
+    }
+
+    async getTaskStats(): Promise<TaskStats> {
+        const response = await axios.get<TaskStats>(`${this.baseUrl}/stats`);
+        return response.data;
+    }
+
+    openEventStream(): EventSource {
+        return new EventSource(`${this.baseUrl}/events`);
+    }
+
     async getTaskById(id: string): Promise<Task> {
         const response = await axios.get<Task>(`${this.baseUrl}/${id}`);
         return response.data;
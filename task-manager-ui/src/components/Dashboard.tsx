@@ -1,5 +1,7 @@
-import { Alert, Box, Button, CircularProgress, Container, Paper, Typography } from "@mui/material";
-import { useTasks } from "../hooks/useTaskHooks";
+import { Alert, Box, Button, Chip, CircularProgress, Container, Paper, Stack, Typography } from "@mui/material";
+import { useTaskStats, useTasks } from "../hooks/useTaskHooks";
+import { useTaskEvents } from "../hooks/useTaskEvents";
+import { Status } from "../types/task";
 import { useState } from "react";
 import { TasksTable } from "./TaskTable";
 import {
@@ -10,7 +12,10 @@ import { TaskFormDialog } from "./TaskFormDialog";
 export const TaskManagementDashboard: React.FC = () => {
   const [createDialogOpen, setCreateDialogOpen] = useState(false);
   
-  const { data: tasks, isLoading, isError, error } = useTasks();
+  const { data, isLoading, isError, error, hasNextPage, fetchNextPage, isFetchingNextPage } = useTasks();
+  const tasks = data?.pages.flatMap(page => page.items);
+  const { data: stats } = useTaskStats();
+  useTaskEvents();
 
   if (isLoading) {
     return (
@@ -80,9 +85,30 @@ export const TaskManagementDashboard: React.FC = () => {
         </Button>
       </Box>
 
+      {stats && (
+        <Stack direction="row" spacing={1} sx={{ mb: 3, flexWrap: 'wrap' }}>
+          <Chip label={`Total: ${stats.total}`} />
+          <Chip label={`To do: ${stats.counts[Status.TODO] ?? 0}`} color="default" variant="outlined" />
+          <Chip label={`In progress: ${stats.counts[Status.IN_PROGRESS] ?? 0}`} color="primary" variant="outlined" />
+          <Chip label={`Done: ${stats.counts[Status.DONE] ?? 0}`} color="success" variant="outlined" />
+        </Stack>
+      )}
+
       {tasks && tasks.length > 0 ? (
         <Box sx={{ mt: 3 }}>
           <TasksTable tasks={tasks} />
+          {hasNextPage && (
+            <Box sx={{ mt: 2, textAlign: 'center' }}>
+              <Button
+                variant="outlined"
+                onClick={() => fetchNextPage()}
+                disabled={isFetchingNextPage}
+                sx={{ textTransform: 'none' }}
+              >
+                {isFetchingNextPage ? 'Loading...' : 'Load more'}
+              </Button>
+            </Box>
+          )}
         </Box>
       ) : (
         <Paper 
@@ -1,4 +1,5 @@
 export const QUERY_KEYS = {
     Tasks : ['tasks'] as const,
+    TaskStats: ['tasks', 'stats'] as const,
     Task: (id: string) => ['tasks', id] as const
 };
\ No newline at end of file
@@ -0,0 +1,51 @@
+import { useEffect } from "react"
+import { useQueryClient } from "@tanstack/react-query"
+import { QUERY_KEYS } from "../constants/queryKeys"
+import { TaskService } from "../api/TaskService"
+import type { Task, TaskChangeEvent } from "../types/task"
+import { removeTask, type TaskPages, upsertTask } from "../utils/taskCache"
+
+/**
+ * Keep the cached task list in step with the server's change stream
+ * Single-task events patch the cache in place; bulk changes, dropped backlogs and reconnects refetch
+ */
+export const useTaskEvents = () => {
+    const queryClient = useQueryClient();
+
+    useEffect(() => {
+        const source = TaskService.getInstance().openEventStream();
+        let connectedOnce = false;
+
+        const resync = () => queryClient.invalidateQueries({ queryKey: QUERY_KEYS.Tasks });
+
+        const onTaskEvent = (message: MessageEvent<string>) => {
+            const event: TaskChangeEvent = JSON.parse(message.data);
+            if (event.task) {
+                const task = event.task;
+                queryClient.setQueryData<TaskPages>(QUERY_KEYS.Tasks, data => upsertTask(data, task));
+                queryClient.setQueryData<Task>(QUERY_KEYS.Task(task.id), task);
+            } else if (event.type === 'DELETED' && event.taskId) {
+                const id = event.taskId;
+                queryClient.setQueryData<TaskPages>(QUERY_KEYS.Tasks, data => removeTask(data, id));
+                queryClient.removeQueries({ queryKey: QUERY_KEYS.Task(id) });
+            } else {
+                resync();
+                return;
+            }
+            queryClient.invalidateQueries({ queryKey: QUERY_KEYS.TaskStats });
+        };
+
+        (['CREATED', 'UPDATED', 'STATUS_CHANGED', 'DELETED', 'BULK_STATUS_CHANGED'] as const)
+            .forEach(type => source.addEventListener(type, onTaskEvent));
+        source.addEventListener('RESYNC', resync);
+        // Changes made while disconnected were missed, so refetch after every reconnect
+        source.onopen = () => {
+            if (connectedOnce) {
+                resync();
+            }
+            connectedOnce = true;
+        };
+
+        return () => source.close();
+    }, [queryClient]);
+}
@@ -1,31 +1,31 @@
-import { useMutation, useQuery, useQueryClient } from "@tanstack/react-query"
+import { type QueryClient, useInfiniteQuery, useMutation, useQuery, useQueryClient } from "@tanstack/react-query"
 import { QUERY_KEYS } from "../constants/queryKeys"
 import { TaskService } from "../api/TaskService"
 import type { CreateTaskRequest, UpdateTaskRequest } from "../types/request"
-import { Status, type Task } from "../types/task"
+import type { Status, Task } from "../types/task"
+import { removeTask, type TaskPages, upsertTask } from "../utils/taskCache"
 
-const sortTasks = (tasks: Task[]) => {
-  const statusOrder = {
-    [Status.TODO]: 1,
-    [Status.IN_PROGRESS]: 2,
-    [Status.DONE]: 3
-  };
-  return tasks.sort((a, b) => {
-    const statusDiff = statusOrder[a.status] - statusOrder[b.status];
-    if (statusDiff !== 0) return statusDiff;
-        return a.title.localeCompare(b.title);
-  });
-};
+const TASK_PAGE_SIZE = 50;
 
+// Pages are fetched as the table asks for them rather than draining every cursor up front
 export const useTasks = () => {
-    return useQuery({
+    return useInfiniteQuery({
         queryKey: QUERY_KEYS.Tasks,
-        queryFn : () => TaskService.getInstance().getAllTasks(),
-        select: (data) => sortTasks(data),
+        queryFn: ({ pageParam }) => TaskService.getInstance().getTaskPage({ sort: 'status' }, pageParam, TASK_PAGE_SIZE),
+        initialPageParam: undefined as string | undefined,
+        getNextPageParam: page => page.next ?? undefined,
         staleTime: 5*60*1000
     })
 }
 
+export const useTaskStats = () => {
+    return useQuery({
+        queryKey: QUERY_KEYS.TaskStats,
+        queryFn: () => TaskService.getInstance().getTaskStats(),
+        staleTime: 30 * 1000
+    })
+}
+
 export const useSearchTaskById = (id: string, enabled: boolean = true) => {
     return useQuery({
         queryKey: [QUERY_KEYS.Tasks, 'search', id],
@@ -35,14 +35,27 @@ export const useSearchTaskById = (id: string, enabled: boolean = true) => {
     })
 }
 
+export const useSearchTasks = (q: string, enabled: boolean = true) => {
+    return useQuery({
+        queryKey: [QUERY_KEYS.Tasks, 'text-search', q.trim()],
+        queryFn: () => TaskService.getInstance().searchTasks(q.trim()),
+        enabled: enabled && !!q.trim(),
+        staleTime: 30 * 1000
+    })
+}
+
+// Apply a mutation's response to the cache instead of refetching the whole list
+const patchTask = (queryClient: QueryClient, task: Task) => {
+    queryClient.setQueryData<TaskPages>(QUERY_KEYS.Tasks, data => upsertTask(data, task));
+    queryClient.setQueryData<Task>(QUERY_KEYS.Task(task.id), task);
+    queryClient.invalidateQueries({ queryKey: QUERY_KEYS.TaskStats });
+}
 
 export const useCreateTask = () => {
     const queryClient = useQueryClient();
     return useMutation({
         mutationFn: (task: CreateTaskRequest) => TaskService.getInstance().createTask(task),
-        onSuccess: () => {
-            queryClient.invalidateQueries({queryKey: QUERY_KEYS.Tasks})
-        }
+        onSuccess: (task) => patchTask(queryClient, task)
     })
 }
 
@@ -50,9 +63,7 @@ export const useUpdateTask = () => {
     const queryClient = useQueryClient();
     return useMutation({
         mutationFn: ({id, task}: {id: string, task: UpdateTaskRequest}) => TaskService.getInstance().updateTask(id, task),
-        onSuccess: () => {
-            queryClient.invalidateQueries({queryKey: QUERY_KEYS.Tasks})
-        }
+        onSuccess: (task) => patchTask(queryClient, task)
     })
 }
 
@@ -60,7 +71,7 @@ export const useUpdateTaskStatus = () => {
     const queryClient = useQueryClient();
     return useMutation({
         mutationFn : ({id, taskStatus} : {id: string, taskStatus: Status }) => TaskService.getInstance().updateTaskStatus(id, taskStatus),
-        onSuccess: () => queryClient.invalidateQueries({queryKey: QUERY_KEYS.Tasks})
+        onSuccess: (task) => patchTask(queryClient, task)
     })
 }
 
@@ -68,6 +79,10 @@ export const useDeleteTask = () => {
     const queryClient = useQueryClient();
     return useMutation({
         mutationFn: (id: string) => TaskService.getInstance().deleteTask(id),
-        onSuccess: () => queryClient.invalidateQueries({queryKey: QUERY_KEYS.Tasks})
+        onSuccess: (_, id) => {
+            queryClient.setQueryData<TaskPages>(QUERY_KEYS.Tasks, data => removeTask(data, id));
+            queryClient.removeQueries({ queryKey: QUERY_KEYS.Task(id) });
+            queryClient.invalidateQueries({ queryKey: QUERY_KEYS.TaskStats });
+        }
     })
 }
\ No newline at end of file
@@ -3,6 +3,36 @@ export interface Task {
     title: string;
     description? : string;
     status: Status;
+    version?: number;
+}
+
+export type TaskChangeType = 'CREATED' | 'UPDATED' | 'STATUS_CHANGED' | 'DELETED' | 'BULK_STATUS_CHANGED';
+
+export interface TaskChangeEvent {
+    type: TaskChangeType;
+    taskId: string | null;
+    previousStatus: Status | null;
+    status: Status | null;
+    count: number;
+    task: Task | null;
+}
+
+export interface TaskPage {
+    items: Task[];
+    next: string | null;
+}
+
+export interface TaskStats {
+    counts: Record<Status, number>;
+    total: number;
+}
+
+export type TaskSort = 'createdAt' | 'title' | 'status';
+
+export interface TaskQuery {
+    status?: Status;
+    q?: string;
+    sort?: TaskSort;
 }
 
 export enum Status {
@@ -0,0 +1,38 @@
+import type { InfiniteData } from "@tanstack/react-query";
+import { Status, type Task, type TaskPage } from "../types/task";
+
+export type TaskPages = InfiniteData<TaskPage, string | undefined>;
+
+// Same order the API uses for sort=status: status, then title, then id
+const STATUS_ORDER = [Status.TODO, Status.IN_PROGRESS, Status.DONE];
+
+const compareTasks = (a: Task, b: Task) =>
+    STATUS_ORDER.indexOf(a.status) - STATUS_ORDER.indexOf(b.status)
+    || a.title.localeCompare(b.title)
+    || a.id.localeCompare(b.id);
+
+/**
+ * Insert or replace a task in the loaded pages, ignoring versions older than the cached one
+ * A task that sorts past the last loaded page is left out; it arrives when that page is fetched
+ */
+export const upsertTask = (data: TaskPages | undefined, task: Task): TaskPages | undefined => {
+    if (!data) {
+        return data;
+    }
+    const existing = data.pages.flatMap(page => page.items).find(t => t.id === task.id);
+    if (existing?.version !== undefined && task.version !== undefined && existing.version > task.version) {
+        return data;
+    }
+    const pages = data.pages.map(page => ({ ...page, items: page.items.filter(t => t.id !== task.id) }));
+    const target = pages.findIndex((page, i) => {
+        const last = page.items[page.items.length - 1];
+        return (last !== undefined && compareTasks(task, last) <= 0) || (i === pages.length - 1 && !page.next);
+    });
+    if (target >= 0) {
+        pages[target] = { ...pages[target], items: [...pages[target].items, task].sort(compareTasks) };
+    }
+    return { ...data, pages };
+};
+
+export const removeTask = (data: TaskPages | undefined, id: string): TaskPages | undefined =>
+    data && { ...data, pages: data.pages.map(page => ({ ...page, items: page.items.filter(t => t.id !== id) })) };